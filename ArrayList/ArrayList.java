@@ -1,5 +1,8 @@
 package com.akgarg.datastructures;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Iterator;
 
 
@@ -18,15 +21,19 @@ public class ArrayList<E> implements Iterable<E> {
     private int capacity;   // variable to hold the current capacity of the ArrayList (always greater than size)
     private static final int DEFAULT_CAPACITY = 10;    // variable for default capacity of the ArrayList if user is not providing default capacity
     private Object[] array;     // Object array to store generic types of values
+    private final int initialCapacity;      // capacity of the new array allocated by clear() (RELEASE clear policy)
+    private final CapacityPolicy capacityPolicy;    // policy used to grow the array (never shrunk automatically)
+    private int modCount;       // number of structural modifications, used by views to fail fast
+    private ClearPolicy clearPolicy = ClearPolicy.RELEASE;     // what clear() does with the array
+    private int staleEnd;       // end of slots which may still refer to cleared elements (SCRATCH clear policy only)
+    private static final ContainerMetrics METRICS = ContainerMetrics.register("ArrayList");    // metrics shared by all ArrayLists (recorded only if enabled)
 
 
     /**
      * Default constructor to initialize all required fields to their respective default values.
      */
     public ArrayList() {
-        this.array = new Object[DEFAULT_CAPACITY];
-        this.size = 0;
-        this.capacity = DEFAULT_CAPACITY;
+        this(DEFAULT_CAPACITY, CapacityPolicy.ONE_AND_HALF);
     }
 
 
@@ -37,13 +44,48 @@ public class ArrayList<E> implements Iterable<E> {
      * @throws IllegalArgumentException if initial capacity is less than 1.
      */
     public ArrayList(int initialCapacity) {
-        if (initialCapacity > 0) {
-            this.array = new Object[initialCapacity];
-            this.capacity = initialCapacity;
-            this.size = 0;
-        } else {
+        this(initialCapacity, CapacityPolicy.ONE_AND_HALF);
+    }
+
+
+    /**
+     * Constructor to set the initial capacity and the capacity policy of the ArrayList.
+     * <p>ArrayList has no remove operation, so it is never shrunk automatically and the shrink threshold of the
+     * policy is ignored: use {@link #trimToSize()} (or clear) to release unused capacity.</p>
+     *
+     * @param initialCapacity initial capacity of the ArrayList.
+     * @param capacityPolicy  policy used to grow the ArrayList.
+     * @throws IllegalArgumentException if initial capacity is less than 1.
+     * @throws NullPointerException     if capacity policy is null.
+     */
+    public ArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        if (initialCapacity <= 0 || initialCapacity > CapacityPolicy.MAX_ARRAY_CAPACITY) {
             throw new IllegalArgumentException("Invalid initial capacity " + initialCapacity);
         }
+
+        if (capacityPolicy == null) {
+            throw new NullPointerException("Capacity policy can't be null");
+        }
+
+        this.array = new Object[initialCapacity];
+        this.capacity = initialCapacity;
+        this.initialCapacity = initialCapacity;
+        this.capacityPolicy = capacityPolicy;
+        this.size = 0;
+    }
+
+
+    /**
+     * Constructor to create an ArrayList holding a copy of the given elements (capacity equals to their count).
+     *
+     * @param elements elements to copy, in order.
+     */
+    ArrayList(Object[] elements) {
+        this.capacity = Math.max(elements.length, 1);
+        this.array = Arrays.copyOf(elements, this.capacity);
+        this.initialCapacity = this.capacity;
+        this.capacityPolicy = CapacityPolicy.ONE_AND_HALF;
+        this.size = elements.length;
     }
 
 
@@ -53,11 +95,16 @@ public class ArrayList<E> implements Iterable<E> {
      * @param element element to be append at the end of the ArrayList.
      */
     public void add(E element) {
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (this.size == capacity) {
-            this.array = getNewArray();
+            this.array = getNewArray(this.size + 1);
         }
         this.array[size] = element;
         this.size++;
+        this.modCount++;
     }
 
 
@@ -73,8 +120,12 @@ public class ArrayList<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("Index " + index + " out of range");
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         if (this.size == capacity) {
-            this.array = getNewArray();
+            this.array = getNewArray(this.size + 1);
         }
 
         int count = 0;
@@ -88,25 +139,149 @@ public class ArrayList<E> implements Iterable<E> {
         }
 
         array[count] = element;
+        event.record("ArrayList", "add", index, this.size, this.size - index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordShifts(this.size - index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         this.size++;
+        this.modCount++;
     }
 
 
     /**
      * Private method to obtain new array when size of ArrayList becomes equal to it's capacity.
      *
+     * @param minCapacity minimum capacity required in the new array.
      * @return New array of larger than previous capacity with all elements.
+     * @throws OutOfMemoryError if required capacity exceeds maximum array capacity.
      */
-    private Object[] getNewArray() {
-        this.capacity = (int) (this.capacity * 1.5 + 1);
-        Object[] newArray = new Object[capacity];
-        if (this.size >= 0) {
-            System.arraycopy(this.array, 0, newArray, 0, this.size);
+    private Object[] getNewArray(int minCapacity) {
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        ResizeEvent event = new ResizeEvent();
+        event.begin();
+
+        int oldCapacity = this.capacity;
+        Object[] newArray = resize(this.capacityPolicy.grow(oldCapacity, minCapacity));
+
+        event.record("ArrayList", this.size, oldCapacity, this.capacity);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordResize(startNanos);
         }
+
         return newArray;
     }
 
 
+    /**
+     * Private method to copy all elements in a new array of given capacity and update the capacity.
+     *
+     * @param newCapacity capacity of the new array (must not be less than size).
+     * @return New array of given capacity with all elements.
+     */
+    private Object[] resize(int newCapacity) {
+        Object[] newArray = new Object[newCapacity];
+        System.arraycopy(this.array, 0, newArray, 0, this.size);
+        this.capacity = newCapacity;
+        this.staleEnd = 0;
+        return newArray;
+    }
+
+
+    /**
+     * Method to increase the capacity of the ArrayList, if necessary, so that it can hold at least
+     * the specified number of elements without growing.
+     *
+     * @param minCapacity desired minimum capacity.
+     * @throws OutOfMemoryError if desired capacity exceeds maximum array capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.capacity) {
+            this.array = getNewArray(minCapacity);
+        }
+    }
+
+
+    /**
+     * Method to trim the capacity of the ArrayList to its current size (at least 1).
+     * Used to release the memory retained after a burst of insertions.
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(this.size, 1);
+        if (newCapacity < this.capacity) {
+            this.array = resize(newCapacity);
+        }
+    }
+
+
+    /**
+     * Method to retrieve the current capacity of the ArrayList.
+     *
+     * @return current capacity of the ArrayList.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+
+    /**
+     * Method to retrieve the metrics shared by all ArrayLists.
+     * Metrics are recorded only if {@link ContainerMetrics#ENABLED} is true.
+     *
+     * @return metrics of ArrayList type.
+     */
+    public static ContainerMetricsMXBean metrics() {
+        return METRICS;
+    }
+
+
+    /**
+     * Method to retrieve the capacity policy of the ArrayList.
+     *
+     * @return policy used to grow the ArrayList.
+     */
+    public CapacityPolicy capacityPolicy() {
+        return this.capacityPolicy;
+    }
+
+
+    /**
+     * Method to set what {@link #clear()} does with the array (see {@link ClearPolicy} for GC implications).
+     * Leaving {@link ClearPolicy#SCRATCH} nulls the slots still referring to cleared elements.
+     *
+     * @param clearPolicy new clear policy.
+     * @throws NullPointerException if clear policy is null.
+     */
+    public void setClearPolicy(ClearPolicy clearPolicy) {
+        if (clearPolicy == null) {
+            throw new NullPointerException("Clear policy can't be null");
+        }
+
+        if (clearPolicy != ClearPolicy.SCRATCH) {
+            if (this.staleEnd > this.size) {
+                Arrays.fill(this.array, this.size, this.staleEnd, null);
+            }
+            this.staleEnd = 0;
+        }
+
+        this.clearPolicy = clearPolicy;
+    }
+
+
+    /**
+     * Method to retrieve the clear policy of the ArrayList.
+     *
+     * @return policy deciding what clear() does with the array.
+     */
+    public ClearPolicy clearPolicy() {
+        return this.clearPolicy;
+    }
+
+
     /**
      * Method to update the value of specified index with new value.
      *
@@ -120,6 +295,10 @@ public class ArrayList<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("Invalid Index " + index);
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         E data = (E) this.array[index];
         this.array[index] = element;
 
@@ -130,10 +309,53 @@ public class ArrayList<E> implements Iterable<E> {
     /**
      * Method to get the array representation of the ArrayList
      *
-     * @return Array containing ArrayList data.
+     * @return new array containing ArrayList data (length equals to size).
      */
     public Object[] toArray() {
-        return this.array;
+        return Arrays.copyOf(this.array, this.size);
+    }
+
+
+    /**
+     * Method to get a view of the elements [fromIndex, toIndex) of the ArrayList without copying them.
+     * Changes made with {@link ArrayView#set} are written to this ArrayList, and the view fails fast
+     * once this ArrayList is structurally modified.
+     *
+     * @param fromIndex index of first element of the view (inclusive).
+     * @param toIndex   index after the last element of the view (exclusive).
+     * @return view over the range.
+     * @throws IndexOutOfBoundsException if fromIndex is less than 0, toIndex is greater than size or fromIndex is greater than toIndex.
+     */
+    public ArrayView<E> subList(int fromIndex, int toIndex) {
+        return new ArrayView<>(new ArrayView.Source() {
+            @Override
+            Object[] array() {
+                return array;
+            }
+
+            @Override
+            int modCount() {
+                return modCount;
+            }
+
+            @Override
+            int size() {
+                return size;
+            }
+        }, fromIndex, toIndex);
+    }
+
+
+    /**
+     * Method to get a view of given number of elements of the ArrayList starting from given offset (see {@link #subList}).
+     *
+     * @param offset index of first element of the view.
+     * @param length number of elements of the view.
+     * @return view over the range.
+     * @throws IndexOutOfBoundsException if range is not within the ArrayList.
+     */
+    public ArrayView<E> slice(int offset, int length) {
+        return subList(offset, offset + length);
     }
 
 
@@ -148,6 +370,11 @@ public class ArrayList<E> implements Iterable<E> {
         if (index < 0 || index > size - 1) {
             throw new IndexOutOfBoundsException("Invalid index " + index);
         }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         return (E) array[index];
     }
 
@@ -159,21 +386,30 @@ public class ArrayList<E> implements Iterable<E> {
      * @return index position if element is present in the ArrayList or returns -1 if element is not in ArrayList.
      */
     public int indexOf(Object object) {
+        int index = -1;
+
         if (object == null) {
             for (int i = 0; i < size(); i++) {
                 if (array[i] == null) {
-                    return i;
+                    index = i;
+                    break;
+                }
+            }
+        } else {
+            for (int i = 0; i < size(); i++) {
+                if (array[i] != null && array[i].equals(object)) {
+                    index = i;
+                    break;
                 }
             }
         }
 
-        for (int i = 0; i < size(); i++) {
-            if (array[i] != null && array[i].equals(object)) {
-                return i;
-            }
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index < 0 ? this.size : index + 1);
         }
 
-        return -1;
+        return index;
     }
 
 
@@ -184,27 +420,7 @@ public class ArrayList<E> implements Iterable<E> {
      * @return true or false according to the element present or not in ArrayList.
      */
     public boolean contains(Object object) {
-        int index = -1;
-
-        if (object == null) {
-            for (int i = 0; i < size(); i++) {
-                if (array[i] == null) {
-                    index = i;
-                    break;
-                }
-            }
-        }
-
-        for (int i = 0; i < size(); i++) {
-            if (array[i] != null) {
-                if (array[i].equals(object)) {
-                    index = i;
-                    break;
-                }
-            }
-        }
-
-        return index >= 0;
+        return indexOf(object) >= 0;
     }
 
 
@@ -215,21 +431,30 @@ public class ArrayList<E> implements Iterable<E> {
      * @return last occurrence index of object if object is present or return -1 if element not available in ArrayList.
      */
     public int lastIndexOf(Object object) {
+        int index = -1;
+
         if (object == null) {
             for (int i = this.size - 1; i >= 0; i--) {
                 if (array[i] == null) {
-                    return i;
+                    index = i;
+                    break;
+                }
+            }
+        } else {
+            for (int i = this.size - 1; i >= 0; i--) {
+                if (array[i] != null && array[i].equals(object)) {
+                    index = i;
+                    break;
                 }
             }
         }
 
-        for (int i = this.size - 1; i >= 0; i--) {
-            if (array[i] != null && array[i].equals(object)) {
-                return i;
-            }
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index < 0 ? this.size : this.size - index);
         }
 
-        return -1;
+        return index;
     }
 
 
@@ -245,12 +470,22 @@ public class ArrayList<E> implements Iterable<E> {
 
     /**
      * Method to remove all elements from the ArrayList.
+     * <p>The array is replaced, reused or left as it is according to the {@link #clearPolicy()}.</p>
      */
     public void clear() {
+        if (this.clearPolicy == ClearPolicy.SCRATCH) {
+            this.staleEnd = Math.max(this.staleEnd, this.size);
+        } else if (this.clearPolicy == ClearPolicy.RETAIN) {
+            Arrays.fill(this.array, 0, Math.max(this.size, this.staleEnd), null);
+            this.staleEnd = 0;
+        } else {
+            this.array = new Object[this.initialCapacity];
+            this.capacity = this.initialCapacity;
+            this.staleEnd = 0;
+        }
+
         this.size = 0;
-        this.array = null;
-        this.array = new Object[DEFAULT_CAPACITY];
-        this.capacity = DEFAULT_CAPACITY;
+        this.modCount++;
     }
 
 
@@ -264,6 +499,50 @@ public class ArrayList<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Method to write a compact binary snapshot of the ArrayList to the given file (file is created or truncated).
+     *
+     * @param path  file to write the snapshot to.
+     * @param codec codec used to encode the elements.
+     * @throws IOException          if an I/O error occurs.
+     * @throws NullPointerException if codec is null.
+     */
+    public void writeSnapshot(Path path, ElementCodec<? super E> codec) throws IOException {
+        Snapshot.write(path, Snapshot.ARRAY_LIST, size, this, codec, null);
+    }
+
+
+    /**
+     * Method to restore a ArrayList from a snapshot written by {@link #writeSnapshot}.
+     * <p>The backing array is allocated once with room for all elements of the snapshot.</p>
+     *
+     * @param path  file to read the snapshot from.
+     * @param codec codec used to decode the elements.
+     * @param <E>   the type of elements.
+     * @return restored ArrayList.
+     * @throws IOException          if an I/O error occurs or the file is not a ArrayList snapshot.
+     * @throws NullPointerException if codec is null.
+     */
+    public static <E> ArrayList<E> readSnapshot(Path path, ElementCodec<E> codec) throws IOException {
+        try (Snapshot.Reader<E> reader = Snapshot.read(path, Snapshot.ARRAY_LIST, codec)) {
+            ArrayList<E> list = new ArrayList<>();
+            int size = reader.size();
+
+            if (size > list.capacity) {
+                list.array = new Object[size];
+                list.capacity = size;
+            }
+
+            for (int i = 0; i < size; i++) {
+                list.array[i] = reader.next();
+            }
+
+            list.size = size;
+            return list;
+        }
+    }
+
+
     /**
      * Method to return the string representation of ArrayList.
      * String returned is enclosed in square brackets ("[]").
@@ -0,0 +1,398 @@
+package com.akgarg.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Thread safe list backed by {@link ArrayList} and guarded by a {@link StampedLock}.
+ * <p>
+ * Writes take the exclusive write lock. Reads first run without any lock under an optimistic stamp and
+ * validate it afterwards; only if a write happened in between (or the unsynchronized read failed because of it)
+ * the read is retried under the shared read lock. Reads therefore never write to the lock state in the common
+ * case, and a write costs one lock acquisition instead of a copy of the array (see {@link CopyOnWriteArrayList}
+ * for read-mostly data).
+ * </p>
+ * <p>
+ * When {@link ContainerMetrics} are enabled, the backing {@link ArrayList} records every read in the shared
+ * <code>ArrayList</code> metrics, so reads do write shared counters (and a read retried under the lock is counted
+ * twice). Metrics are disabled by default.
+ * </p>
+ * <p>
+ * Bulk operations ({@link #addAll}, {@link #forEach}) hold one stamp for all elements instead of locking once per
+ * element. Iterators work on a copy of the elements taken under the read lock.
+ * </p>
+ *
+ * @param <E> the type of elements to store in this list (class type only)
+ * @author Akhilesh Garg
+ */
+@SuppressWarnings("unused")
+public class ConcurrentArrayList<E> implements Iterable<E> {
+
+    private final ArrayList<E> list;    // elements, written only under the write lock
+    private final StampedLock lock = new StampedLock();     // lock guarding the list
+
+
+    /**
+     * Creates an empty list with default capacity.
+     */
+    public ConcurrentArrayList() {
+        this.list = new ArrayList<>();
+    }
+
+
+    /**
+     * Creates an empty list with given initial capacity and capacity policy.
+     *
+     * @param initialCapacity initial capacity of the list.
+     * @param capacityPolicy  policy used to grow and shrink the list.
+     * @throws IllegalArgumentException if initial capacity is invalid.
+     * @throws NullPointerException     if capacity policy is null.
+     */
+    public ConcurrentArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        this.list = new ArrayList<>(initialCapacity, capacityPolicy);
+    }
+
+
+    /**
+     * Method to add an element at the end of the list.
+     *
+     * @param element element to append.
+     */
+    public void add(E element) {
+        long stamp = lock.writeLock();
+        try {
+            list.add(element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Method to add new element in the list at specific index position.
+     *
+     * @param index   index position of new element.
+     * @param element element to add in list.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than size of list.
+     */
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            list.add(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Method to append all elements of the given iterable under a single write lock acquisition.
+     *
+     * @param elements elements to append.
+     * @return number of elements appended.
+     */
+    public int addAll(Iterable<? extends E> elements) {
+        int count = 0;
+        long stamp = lock.writeLock();
+        try {
+            for (E element : elements) {
+                list.add(element);
+                count++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Method to update the value of specified index with new value.
+     *
+     * @param index   index position of value to update.
+     * @param element new element to place at index provided.
+     * @return previous value at given index.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            return list.set(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Method to retrieve the element at specified index (optimistic read).
+     *
+     * @param index index to fetch the respective index value.
+     * @return return the value at specified index.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                E element = list.get(index);
+
+                if (lock.validate(stamp)) {
+                    return element;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return list.get(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Method to retrieve the current size of the list (optimistic read).
+     *
+     * @return size of list.
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size();
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                size = list.size();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Method to check if list is empty or not (optimistic read).
+     *
+     * @return true if list is empty otherwise false.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+
+    /**
+     * Method to get the index of the specific element (optimistic read).
+     *
+     * @param object object whose index is to find.
+     * @return index position if element is present in the list or returns -1 if element is not in list.
+     */
+    public int indexOf(Object object) {
+        return read(() -> list.indexOf(object));
+    }
+
+
+    /**
+     * Method to get the last index of the specific element (optimistic read).
+     *
+     * @param object object whose last index is to find.
+     * @return last index position if element is present in the list or returns -1 if element is not in list.
+     */
+    public int lastIndexOf(Object object) {
+        return read(() -> list.lastIndexOf(object));
+    }
+
+
+    /**
+     * Method to check if specified element is present in the list or not (optimistic read).
+     *
+     * @param object element to check.
+     * @return true if element is present in list or false otherwise.
+     */
+    public boolean contains(Object object) {
+        return indexOf(object) != -1;
+    }
+
+
+    /**
+     * Method to perform the given action on every element under a single read lock acquisition.
+     * The action must not modify this list (writers are blocked until it returns).
+     *
+     * @param action action to perform on every element.
+     * @throws NullPointerException if action is null.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException("Action can't be null");
+        }
+
+        long stamp = lock.readLock();
+        try {
+            for (int i = 0; i < list.size(); i++) {
+                action.accept(list.get(i));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Method to remove all elements from the list.
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            list.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Method to increase the capacity of the list, if necessary, so that it can hold at least the specified
+     * number of elements without growing.
+     *
+     * @param minCapacity desired minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        long stamp = lock.writeLock();
+        try {
+            list.ensureCapacity(minCapacity);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Method to trim the capacity of the list to its current size.
+     */
+    public void trimToSize() {
+        long stamp = lock.writeLock();
+        try {
+            list.trimToSize();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+
+    /**
+     * Method to get a copy of the current elements of the list (taken under the read lock).
+     *
+     * @return array containing the elements of list.
+     */
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            return list.toArray();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Method to return the string representation of the list (taken under the read lock).
+     *
+     * @return String representation of the list.
+     */
+    @Override
+    public String toString() {
+        long stamp = lock.readLock();
+        try {
+            return list.toString();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Method to get an iterator over a copy of the current elements (changes made later are not visible).
+     *
+     * @return iterator object.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotIterator(toArray());
+    }
+
+
+    /**
+     * Private method to run a read operation without lock under an optimistic stamp, and again under the read
+     * lock if the stamp is invalidated by a concurrent write.
+     *
+     * @param reader read operation on the list.
+     * @param <R>    the type of result.
+     * @return result of the read operation.
+     */
+    private <R> R read(Supplier<R> reader) {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                R result = reader.get();
+
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Iterator over a copy of the elements.
+     */
+    private class SnapshotIterator implements Iterator<E> {
+        private final Object[] snapshot;
+        private int index = 0;
+
+        private SnapshotIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < snapshot.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (index >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) snapshot[index++];
+        }
+    }
+}
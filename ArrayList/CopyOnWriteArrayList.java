@@ -0,0 +1,377 @@
+package com.akgarg.datastructures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+
+/**
+ * Thread safe copy-on-write variant of {@link ArrayList} for read-mostly data.
+ * <p>
+ * Elements are kept in an immutable array published through a volatile reference. Read operations
+ * ({@link #get}, {@link #indexOf}, {@link #contains}, {@link #size}, iteration) read the current array without any
+ * lock. Every mutation copies the array under a lock, changes the copy and publishes it, so a mutation costs O(n).
+ * {@link #addAll} and {@link #batch} apply many changes with a single copy.
+ * </p>
+ * <p>
+ * Iterators work on the array published when they were created: they never throw on concurrent change and never
+ * see changes made after their creation.
+ * </p>
+ *
+ * @param <E> the type of elements to store in this list (class type only)
+ * @author Akhilesh Garg
+ */
+@SuppressWarnings("unchecked")
+public class CopyOnWriteArrayList<E> implements Iterable<E> {
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private final ReentrantLock lock = new ReentrantLock();     // lock held by writers only
+    private volatile Object[] array;    // current elements (never modified once published, length == size)
+
+
+    /**
+     * Creates an empty list.
+     */
+    public CopyOnWriteArrayList() {
+        this.array = EMPTY_ARRAY;
+    }
+
+
+    /**
+     * Creates a list containing the elements of the given iterable in iteration order.
+     *
+     * @param elements elements to copy in the list.
+     */
+    public CopyOnWriteArrayList(Iterable<? extends E> elements) {
+        this.array = EMPTY_ARRAY;
+        addAll(elements);
+    }
+
+
+    /**
+     * Method to add an element at the end of the list.
+     *
+     * @param element element to append.
+     */
+    public void add(E element) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            Object[] newArray = Arrays.copyOf(current, current.length + 1);
+            newArray[current.length] = element;
+            array = newArray;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to add new element in the list at specific index position.
+     *
+     * @param index   index position of new element.
+     * @param element element to add in list.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than size of list.
+     */
+    public void add(int index, E element) {
+        lock.lock();
+        try {
+            Object[] current = array;
+
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of range");
+            }
+
+            Object[] newArray = new Object[current.length + 1];
+            System.arraycopy(current, 0, newArray, 0, index);
+            System.arraycopy(current, index, newArray, index + 1, current.length - index);
+            newArray[index] = element;
+            array = newArray;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to append all elements of the given iterable at the end of the list with a single copy of the array.
+     *
+     * @param elements elements to append.
+     * @return number of elements appended.
+     */
+    public int addAll(Iterable<? extends E> elements) {
+        ArrayList<Object> added = new ArrayList<>();
+
+        for (E element : elements) {
+            added.add(element);
+        }
+
+        if (added.isEmpty()) {
+            return 0;
+        }
+
+        lock.lock();
+        try {
+            Object[] current = array;
+            Object[] newArray = Arrays.copyOf(current, current.length + added.size());
+            System.arraycopy(added.toArray(), 0, newArray, current.length, added.size());
+            array = newArray;
+        } finally {
+            lock.unlock();
+        }
+
+        return added.size();
+    }
+
+
+    /**
+     * Method to update the value of specified index with new value.
+     *
+     * @param index   index position of value to update.
+     * @param element new element to place at index provided.
+     * @return previous value at given index.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E set(int index, E element) {
+        lock.lock();
+        try {
+            Object[] current = array;
+
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException("Invalid Index " + index);
+            }
+
+            E previous = (E) current[index];
+
+            if (previous != element) {
+                Object[] newArray = current.clone();
+                newArray[index] = element;
+                array = newArray;
+            }
+
+            return previous;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to remove the element of specified index.
+     *
+     * @param index index position of element to remove.
+     * @return removed element.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E remove(int index) {
+        lock.lock();
+        try {
+            Object[] current = array;
+
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException("Invalid Index " + index);
+            }
+
+            Object[] newArray = new Object[current.length - 1];
+            System.arraycopy(current, 0, newArray, 0, index);
+            System.arraycopy(current, index + 1, newArray, index, current.length - index - 1);
+            array = newArray;
+            return (E) current[index];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to apply many changes with a single copy of the array.
+     * <p>
+     * The edits receive a private {@link ArrayList} holding a copy of the current elements, and everything they do
+     * to it (add, set, clear...) is published atomically when they return. Readers see either all or none of the
+     * changes. Other writers wait until the batch is published, so edits should be short. A copy of the working copy
+     * is published, so a reference to it kept by the edits can't change the list afterwards.
+     * </p>
+     *
+     * @param edits changes to apply on the working copy.
+     * @throws NullPointerException if edits is null.
+     */
+    public void batch(Consumer<? super ArrayList<E>> edits) {
+        if (edits == null) {
+            throw new NullPointerException("Edits can't be null");
+        }
+
+        lock.lock();
+        try {
+            ArrayList<E> workingCopy = new ArrayList<>(array);
+
+            edits.accept(workingCopy);
+
+            // toArray returns a fresh exact-size copy, never the array of the working copy
+            array = workingCopy.isEmpty() ? EMPTY_ARRAY : workingCopy.toArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to retrieve the element at specified index (no lock).
+     *
+     * @param index index to fetch the respective index value.
+     * @return return the value at specified index.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E get(int index) {
+        Object[] current = array;
+
+        if (index < 0 || index >= current.length) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+
+        return (E) current[index];
+    }
+
+
+    /**
+     * Method to get the index of the specific element (no lock).
+     *
+     * @param object object whose index is to find.
+     * @return index position if element is present in the list or returns -1 if element is not in list.
+     */
+    public int indexOf(Object object) {
+        Object[] current = array;
+
+        for (int i = 0; i < current.length; i++) {
+            if (object == null ? current[i] == null : object.equals(current[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Method to get the last index of the specific element (no lock).
+     *
+     * @param object object whose last index is to find.
+     * @return last index position if element is present in the list or returns -1 if element is not in list.
+     */
+    public int lastIndexOf(Object object) {
+        Object[] current = array;
+
+        for (int i = current.length - 1; i >= 0; i--) {
+            if (object == null ? current[i] == null : object.equals(current[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Method to check if specified element is present in the list or not (no lock).
+     *
+     * @param object element to check.
+     * @return true if element is present in list or false otherwise.
+     */
+    public boolean contains(Object object) {
+        return indexOf(object) != -1;
+    }
+
+
+    /**
+     * Method to check if list is empty or not.
+     *
+     * @return true if list is empty otherwise false.
+     */
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+
+    /**
+     * Method to remove all elements from the list.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            array = EMPTY_ARRAY;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to retrieve the current size of the list.
+     *
+     * @return size of list.
+     */
+    public int size() {
+        return array.length;
+    }
+
+
+    /**
+     * Method to get a copy of the current elements of the list.
+     *
+     * @return array containing the elements of list.
+     */
+    public Object[] toArray() {
+        return array.clone();
+    }
+
+
+    /**
+     * Method to return the string representation of the current elements of the list.
+     *
+     * @return String representation of the list.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(array);
+    }
+
+
+    /**
+     * Method to get the snapshot iterator of the list (elements published when iterator is created).
+     *
+     * @return iterator object.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotIterator(array);
+    }
+
+
+    /**
+     * Iterator over an immutable array snapshot. It never throws ConcurrentModificationException.
+     */
+    private class SnapshotIterator implements Iterator<E> {
+        private final Object[] snapshot;
+        private int index = 0;
+
+        private SnapshotIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < snapshot.length;
+        }
+
+        @Override
+        public E next() {
+            if (index >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) snapshot[index++];
+        }
+    }
+}
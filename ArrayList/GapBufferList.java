@@ -0,0 +1,585 @@
+package com.akgarg.datastructures;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Gap buffer list with the {@link ArrayList} API for workloads which edit around a moving position.
+ * <p>
+ * The backing array keeps its free slots together as a <strong>gap</strong> at the position of the last edit.
+ * Inserting or removing at the gap is O(1) amortized; an edit elsewhere first moves the gap there, copying only the
+ * elements between the old and the new position with {@link System#arraycopy}. Edits which stay close to each other
+ * (typing, backspace, replacing a line) therefore cost O(distance) instead of O(size - index) as in {@link ArrayList}.
+ * Random access ({@link #get}, {@link #set}) stays O(1).
+ * </p>
+ * <p>
+ * A {@link Cursor} obtained from {@link #cursor} keeps a position between two elements for a batch of local edits.
+ * It fails fast with {@link ConcurrentModificationException} if the list is changed other than through it.
+ * </p>
+ * <p>This implementation is not synchronized (means no safety in multithreading environment).</p>
+ *
+ * @param <E> the type of elements to store in this list (class type only)
+ * @author Akhilesh Garg
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public class GapBufferList<E> implements Iterable<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;    // default capacity of the list if user is not providing capacity
+    private Object[] array;     // elements before gapStart and from gapEnd, free slots in between
+    private int gapStart;       // index of the first free slot (logical index of the gap)
+    private int gapEnd;         // index after the last free slot
+    private int modCount;       // number of structural changes, used by cursors to detect foreign edits
+    private final int initialCapacity;      // capacity the list is reset to by clear()
+    private final CapacityPolicy capacityPolicy;    // policy used to grow the array
+
+
+    /**
+     * Default constructor to initialize all required fields to their respective default values.
+     */
+    public GapBufferList() {
+        this(DEFAULT_CAPACITY, CapacityPolicy.ONE_AND_HALF);
+    }
+
+
+    /**
+     * Constructor to set the initial capacity and the capacity policy of the list.
+     *
+     * @param initialCapacity initial capacity of the list.
+     * @param capacityPolicy  policy used to grow the list.
+     * @throws IllegalArgumentException if initial capacity is less than 1.
+     * @throws NullPointerException     if capacity policy is null.
+     */
+    public GapBufferList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        if (initialCapacity <= 0 || initialCapacity > CapacityPolicy.MAX_ARRAY_CAPACITY) {
+            throw new IllegalArgumentException("Invalid initial capacity " + initialCapacity);
+        }
+
+        if (capacityPolicy == null) {
+            throw new NullPointerException("Capacity policy can't be null");
+        }
+
+        this.array = new Object[initialCapacity];
+        this.gapStart = 0;
+        this.gapEnd = initialCapacity;
+        this.initialCapacity = initialCapacity;
+        this.capacityPolicy = capacityPolicy;
+    }
+
+
+    /**
+     * Method to add an element at the end of the list.
+     *
+     * @param element element to be append at the end of the list.
+     */
+    public void add(E element) {
+        add(size(), element);
+    }
+
+
+    /**
+     * Method to add new element in the list at specific index position (O(1) amortized at the gap, otherwise
+     * O(distance from the gap)).
+     *
+     * @param index   index position of new element.
+     * @param element element to add in list.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than size of list.
+     */
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range");
+        }
+
+        insertAt(index, element);
+    }
+
+
+    /**
+     * Method to remove the element of specified index (O(1) at the gap, otherwise O(distance from the gap)).
+     *
+     * @param index index position of element to remove.
+     * @return removed element.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Invalid Index " + index);
+        }
+
+        return removeAt(index);
+    }
+
+
+    /**
+     * Method to update the value of specified index with new value.
+     *
+     * @param index   index position of value to update.
+     * @param element new element to place at index provided.
+     * @return previous value at given index.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E set(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Invalid Index " + index);
+        }
+
+        int position = physicalIndex(index);
+        E data = (E) this.array[position];
+        this.array[position] = element;
+        return data;
+    }
+
+
+    /**
+     * Method to retrieve the element at specified index in the list.
+     *
+     * @param index index to fetch the respective index value.
+     * @return return the value at specified index.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+
+        return (E) array[physicalIndex(index)];
+    }
+
+
+    /**
+     * Method to get a cursor placed before the element of given index (at the end if index is size).
+     *
+     * @param index initial position of the cursor.
+     * @return cursor over this list.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than size of list.
+     */
+    public Cursor cursor(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range");
+        }
+
+        return new Cursor(index);
+    }
+
+
+    /**
+     * Method to get the index of the specific element.
+     *
+     * @param object object whose index is to find.
+     * @return index position if element is present in the list or returns -1 if element is not in list.
+     */
+    public int indexOf(Object object) {
+        for (int i = 0; i < gapStart; i++) {
+            if (object == null ? array[i] == null : object.equals(array[i])) {
+                return i;
+            }
+        }
+
+        for (int i = gapEnd; i < array.length; i++) {
+            if (object == null ? array[i] == null : object.equals(array[i])) {
+                return i - gapLength();
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Method to determine if an element is available in list or not.
+     *
+     * @param object object to check if this is available in list or not.
+     * @return true or false according to the element present or not in list.
+     */
+    public boolean contains(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+
+    /**
+     * Method to get the last occurrence index of provided element.
+     *
+     * @param object object whose last occurrence index is to find.
+     * @return last occurrence index of object if object is present or return -1 if element not available in list.
+     */
+    public int lastIndexOf(Object object) {
+        for (int i = array.length - 1; i >= gapEnd; i--) {
+            if (object == null ? array[i] == null : object.equals(array[i])) {
+                return i - gapLength();
+            }
+        }
+
+        for (int i = gapStart - 1; i >= 0; i--) {
+            if (object == null ? array[i] == null : object.equals(array[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Method to increase the capacity of the list, if necessary, so that it can hold at least
+     * the specified number of elements without growing.
+     *
+     * @param minCapacity desired minimum capacity.
+     * @throws OutOfMemoryError if desired capacity exceeds maximum array capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            resize(this.capacityPolicy.grow(array.length, minCapacity));
+        }
+    }
+
+
+    /**
+     * Method to trim the capacity of the list to its current size (at least 1).
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(size(), 1);
+        if (newCapacity < array.length) {
+            resize(newCapacity);
+        }
+    }
+
+
+    /**
+     * Method to retrieve the current capacity of the list.
+     *
+     * @return capacity of the list.
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+
+    /**
+     * Method to retrieve the capacity policy of the list.
+     *
+     * @return capacity policy of the list.
+     */
+    public CapacityPolicy capacityPolicy() {
+        return this.capacityPolicy;
+    }
+
+
+    /**
+     * Method to get the elements of the list in a new array (length equals to size).
+     *
+     * @return Array containing list data.
+     */
+    public Object[] toArray() {
+        Object[] elements = new Object[size()];
+        System.arraycopy(array, 0, elements, 0, gapStart);
+        System.arraycopy(array, gapEnd, elements, gapStart, array.length - gapEnd);
+        return elements;
+    }
+
+
+    /**
+     * Method to check if list is empty or not.
+     *
+     * @return true if list is empty else returns false.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+
+    /**
+     * Method to remove all elements from the list.
+     */
+    public void clear() {
+        this.array = new Object[this.initialCapacity];
+        this.gapStart = 0;
+        this.gapEnd = this.initialCapacity;
+        this.modCount++;
+    }
+
+
+    /**
+     * Method to retrieve the current total number of elements in the list.
+     *
+     * @return size of the list
+     */
+    public int size() {
+        return array.length - gapLength();
+    }
+
+
+    /**
+     * Method to return the string representation of the list.
+     * String returned is enclosed in square brackets ("[]").
+     * Adjacent elements are separated by comma (", ").
+     * If list is empty then only double brackets will be returned.
+     *
+     * @return String representation of the list
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+
+    /**
+     * Method to get the iterator over this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new GapBufferListIterator();
+    }
+
+
+    /**
+     * Private method to insert an element at a valid index after moving the gap there.
+     */
+    private void insertAt(int index, E element) {
+        if (gapStart == gapEnd) {
+            resize(this.capacityPolicy.grow(array.length, array.length + 1));
+        }
+
+        moveGap(index);
+        array[gapStart++] = element;
+        modCount++;
+    }
+
+
+    /**
+     * Private method to remove the element of a valid index after moving the gap there.
+     */
+    private E removeAt(int index) {
+        moveGap(index);
+        E element = (E) array[gapEnd];
+        array[gapEnd++] = null;
+        modCount++;
+        return element;
+    }
+
+
+    /**
+     * Private method to move the gap to given logical index, copying only the elements between old and new position.
+     * Slots which become part of the gap are cleared so that removed elements can be garbage collected.
+     *
+     * @param index new logical index of the gap.
+     */
+    private void moveGap(int index) {
+        int gapLength = gapLength();
+
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(array, index, array, index + gapLength, count);
+            Arrays.fill(array, index, Math.min(gapStart, index + gapLength), null);
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(array, gapEnd, array, gapStart, count);
+            Arrays.fill(array, Math.max(gapEnd, index), gapEnd + count, null);
+        }
+
+        gapStart = index;
+        gapEnd = index + gapLength;
+    }
+
+
+    /**
+     * Private method to copy all elements in a new array of given capacity, keeping the gap at its position.
+     *
+     * @param newCapacity capacity of the new array (must not be less than size).
+     */
+    private void resize(int newCapacity) {
+        int tailLength = array.length - gapEnd;
+        Object[] newArray = new Object[newCapacity];
+        System.arraycopy(array, 0, newArray, 0, gapStart);
+        System.arraycopy(array, gapEnd, newArray, newCapacity - tailLength, tailLength);
+        this.array = newArray;
+        this.gapEnd = newCapacity - tailLength;
+    }
+
+
+    /**
+     * Private method to translate a logical index of an element to its index in the backing array.
+     */
+    private int physicalIndex(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+
+    /**
+     * Private method to get the number of free slots.
+     */
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+
+    /**
+     * Position between two elements of the list for a batch of local edits (like a text cursor).
+     * Edits made through the cursor move the gap with it, so consecutive edits at the cursor are O(1) amortized.
+     */
+    public final class Cursor {
+        private int index;      // number of elements before the cursor
+        private int expectedModCount = modCount;
+
+        private Cursor(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Method to retrieve the position of the cursor.
+         *
+         * @return number of elements before the cursor.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Method to move the cursor before the element of given index (no element is copied until next edit).
+         *
+         * @param index new position of the cursor.
+         * @throws IndexOutOfBoundsException       if index is less than 0 or greater than size of list.
+         * @throws ConcurrentModificationException if list was changed other than through this cursor.
+         */
+        public void moveTo(int index) {
+            checkForComodification();
+
+            if (index < 0 || index > size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of range");
+            }
+
+            this.index = index;
+        }
+
+        /**
+         * Method to check if there is an element after the cursor.
+         *
+         * @return true if cursor is not at the end of the list.
+         */
+        public boolean hasNext() {
+            return index < size();
+        }
+
+        /**
+         * Method to check if there is an element before the cursor.
+         *
+         * @return true if cursor is not at the beginning of the list.
+         */
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        /**
+         * Method to return the element after the cursor and move the cursor past it.
+         *
+         * @return element after the cursor.
+         * @throws NoSuchElementException          if cursor is at the end of the list.
+         * @throws ConcurrentModificationException if list was changed other than through this cursor.
+         */
+        public E next() {
+            checkForComodification();
+
+            if (index >= size()) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) array[physicalIndex(index++)];
+        }
+
+        /**
+         * Method to return the element before the cursor and move the cursor before it.
+         *
+         * @return element before the cursor.
+         * @throws NoSuchElementException          if cursor is at the beginning of the list.
+         * @throws ConcurrentModificationException if list was changed other than through this cursor.
+         */
+        public E previous() {
+            checkForComodification();
+
+            if (index <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) array[physicalIndex(--index)];
+        }
+
+        /**
+         * Method to insert an element at the cursor; the cursor is placed after the new element.
+         *
+         * @param element element to insert.
+         * @throws ConcurrentModificationException if list was changed other than through this cursor.
+         */
+        public void insert(E element) {
+            checkForComodification();
+            insertAt(index++, element);
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Method to remove the element before the cursor (like backspace).
+         *
+         * @return removed element.
+         * @throws NoSuchElementException          if cursor is at the beginning of the list.
+         * @throws ConcurrentModificationException if list was changed other than through this cursor.
+         */
+        public E deleteBackward() {
+            checkForComodification();
+
+            if (index <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            E element = removeAt(--index);
+            expectedModCount = modCount;
+            return element;
+        }
+
+        /**
+         * Method to remove the element after the cursor (like delete).
+         *
+         * @return removed element.
+         * @throws NoSuchElementException          if cursor is at the end of the list.
+         * @throws ConcurrentModificationException if list was changed other than through this cursor.
+         */
+        public E deleteForward() {
+            checkForComodification();
+
+            if (index >= size()) {
+                throw new NoSuchElementException();
+            }
+
+            E element = removeAt(index);
+            expectedModCount = modCount;
+            return element;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+
+    /**
+     * Class used to implement the iterator.
+     */
+    private class GapBufferListIterator implements Iterator<E> {
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return this.index < size();
+        }
+
+        @Override
+        public E next() {
+            if (index >= size()) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) array[physicalIndex(index++)];
+        }
+    }
+}
@@ -0,0 +1,514 @@
+package com.akgarg.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Generic immutable (persistent) vector implemented as a 32-way radix-balanced trie with tail optimisation.
+ * <p>
+ * Every update ({@link #append}, {@link #set}) returns a new version and leaves the current version unchanged.
+ * New versions share all unchanged nodes with the old one, so an update copies only the path from the root to
+ * one leaf (O(log32 n) arrays of 32 references) instead of the whole list. The last (up to 32) elements are
+ * kept in a separate tail array, so most appends copy the tail only.
+ * </p>
+ * <p>
+ * Versions never change after construction, so they can be shared between threads without any lock.
+ * Bulk edits should use a {@link Builder}, which updates the nodes it has already copied in place.
+ * </p>
+ *
+ * @param <E> the type of elements to store in this vector (class type only)
+ * @author Akhilesh Garg
+ */
+@SuppressWarnings("unchecked")
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final int BITS = 5;     // number of index bits consumed by every level of the trie
+    private static final int WIDTH = 1 << BITS;     // number of children of every node
+    private static final int MASK = WIDTH - 1;      // mask of the index bits of one level
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);     // root of empty vectors
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;     // number of elements of this version
+    private final int shift;    // index bit offset of the root level (multiple of BITS)
+    private final Node root;    // root of the trie holding all elements except the tail
+    private final Object[] tail;    // last elements (exactly size - tailOffset() elements)
+
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+
+    /**
+     * Method to retrieve the empty vector.
+     *
+     * @param <E> the type of elements.
+     * @return empty vector.
+     */
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+
+    /**
+     * Method to create a vector containing all elements of the ArrayList (in the same order).
+     *
+     * @param list ArrayList to copy.
+     * @param <E>  the type of elements.
+     * @return vector containing the elements of the list.
+     */
+    public static <E> PersistentVector<E> from(ArrayList<? extends E> list) {
+        Builder<E> builder = builder();
+
+        for (E element : list) {
+            builder.add(element);
+        }
+
+        return builder.build();
+    }
+
+
+    /**
+     * Method to create a builder starting from an empty vector.
+     *
+     * @param <E> the type of elements.
+     * @return new builder.
+     */
+    public static <E> Builder<E> builder() {
+        return PersistentVector.<E>empty().toBuilder();
+    }
+
+
+    /**
+     * Method to create a builder starting from the elements of this version (this version is not changed).
+     *
+     * @return new builder.
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+
+    /**
+     * Method to retrieve the element at specified index.
+     *
+     * @param index index of the element.
+     * @return element at specified index.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than size-1.
+     */
+    public E get(int index) {
+        return (E) leafFor(index, size, shift, root, tail)[index & MASK];
+    }
+
+
+    /**
+     * Method to create a new version with specified index set to specified element.
+     *
+     * @param index   index of the element to replace.
+     * @param element new element.
+     * @return new version (this version is not changed).
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than size-1.
+     */
+    public PersistentVector<E> set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+
+        return new PersistentVector<>(size, shift, setInPath(null, shift, root, index, element), tail);
+    }
+
+
+    /**
+     * Method to create a new version with specified element appended at the end.
+     *
+     * @param element element to append.
+     * @return new version (this version is not changed).
+     */
+    public PersistentVector<E> append(E element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+
+    /**
+     * Method to retrieve the total number of elements of this version.
+     *
+     * @return size of vector.
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    /**
+     * Method to determine if this version is empty or not.
+     *
+     * @return true if vector is empty else false.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Method to copy the elements of this version in a new ArrayList (pre-sized, in the same order).
+     *
+     * @return new ArrayList containing the elements of this version.
+     */
+    public ArrayList<E> toArrayList() {
+        ArrayList<E> list = new ArrayList<>(Math.max(size, 1));
+
+        for (E element : this) {
+            list.add(element);
+        }
+
+        return list;
+    }
+
+
+    /**
+     * Method to get the iterator over the elements of this version.
+     *
+     * @return iterator object.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new PersistentVectorIterator();
+    }
+
+
+    /**
+     * Method to return the string representation of this version.
+     *
+     * @return String representation of the vector.
+     */
+    @Override
+    public String toString() {
+        if (this.size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (E element : this) {
+            sb.append(element);
+            sb.append(", ");
+        }
+
+        sb.deleteCharAt(sb.length() - 1);
+        sb.deleteCharAt(sb.length() - 1);
+        sb.append("]");
+        return sb.toString();
+    }
+
+
+    /**
+     * Private method to retrieve the index of the first element of the tail for given size.
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+
+    /**
+     * Private method to retrieve the leaf array (or tail) holding the element of specified index.
+     *
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than size-1.
+     */
+    private static Object[] leafFor(int index, int size, int shift, Node root, Object[] tail) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+
+        return node.array;
+    }
+
+
+    /**
+     * Private method to create a chain of single child nodes from given level down to the given node.
+     */
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+
+    /**
+     * Private method to insert the full tail as the last leaf of the trie, copying (or editing in place if
+     * owned by given edit token) the nodes of the path.
+     *
+     * @param edit     edit token of the builder or null for persistent updates.
+     * @param size     size of the vector before insertion of the tail.
+     * @param level    level of the parent node.
+     * @param parent   node in which the tail is inserted.
+     * @param tailNode leaf node holding the tail elements.
+     * @return parent node (or its copy) containing the new leaf.
+     */
+    private static Node pushTail(Object edit, int size, int level, Node parent, Node tailNode) {
+        Node node = editable(edit, parent);
+        int childIndex = ((size - 1) >>> level) & MASK;
+
+        if (level == BITS) {
+            node.array[childIndex] = tailNode;
+        } else {
+            Node child = (Node) node.array[childIndex];
+            node.array[childIndex] = child != null
+                    ? pushTail(edit, size, level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Private method to set the element of specified index in the trie, copying (or editing in place if
+     * owned by given edit token) the nodes of the path.
+     */
+    private static Node setInPath(Object edit, int level, Node node, int index, Object element) {
+        Node result = editable(edit, node);
+
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            result.array[childIndex] = setInPath(edit, level - BITS, (Node) node.array[childIndex], index, element);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Private method to retrieve the node itself if it is owned by given edit token, else a copy owned by it.
+     */
+    private static Node editable(Object edit, Node node) {
+        if (edit != null && node.edit == edit) {
+            return node;
+        }
+
+        return new Node(edit, node.array.clone());
+    }
+
+
+    /**
+     * Node of the trie. Nodes of persistent versions have no edit token and are never modified; nodes created by a
+     * builder carry its token and are modified in place until the builder is built.
+     */
+    private static final class Node {
+        private final Object edit;
+        private final Object[] array;
+
+        private Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+
+    /**
+     * Transient (mutable) builder of a PersistentVector used for bulk edits.
+     * <p>
+     * The builder copies a node the first time it changes it and then updates the copy in place, so n appends
+     * allocate about n/32 arrays instead of n paths. {@link #build()} returns the result as a new version in
+     * constant time; the builder can't be used afterwards. Builders are not thread safe.
+     * </p>
+     *
+     * @param <E> the type of elements.
+     */
+    public static final class Builder<E> {
+        private Object edit;    // token owning the nodes created by this builder (null once built)
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;  // always WIDTH long
+
+
+        private Builder(PersistentVector<E> vector) {
+            this.edit = new Object();
+            this.size = vector.size;
+            this.shift = vector.shift;
+            this.root = editable(edit, vector.root);
+            this.tail = new Object[WIDTH];
+            System.arraycopy(vector.tail, 0, this.tail, 0, vector.tail.length);
+        }
+
+
+        /**
+         * Method to append an element at the end.
+         *
+         * @param element element to append.
+         * @return this builder.
+         * @throws IllegalStateException if builder is already built.
+         */
+        public Builder<E> add(E element) {
+            ensureEditable();
+
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, size, shift, root, tailNode);
+            }
+
+            size++;
+            return this;
+        }
+
+
+        /**
+         * Method to replace the element of specified index.
+         *
+         * @param index   index of the element to replace.
+         * @param element new element.
+         * @return this builder.
+         * @throws IndexOutOfBoundsException if index is less than 0 or greater than size-1.
+         * @throws IllegalStateException     if builder is already built.
+         */
+        public Builder<E> set(int index, E element) {
+            ensureEditable();
+
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Invalid index " + index);
+            }
+
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = setInPath(edit, shift, root, index, element);
+            }
+
+            return this;
+        }
+
+
+        /**
+         * Method to retrieve the element at specified index.
+         *
+         * @param index index of the element.
+         * @return element at specified index.
+         * @throws IndexOutOfBoundsException if index is less than 0 or greater than size-1.
+         * @throws IllegalStateException     if builder is already built.
+         */
+        public E get(int index) {
+            ensureEditable();
+            return (E) leafFor(index, size, shift, root, tail)[index & MASK];
+        }
+
+
+        /**
+         * Method to retrieve the current number of elements.
+         *
+         * @return size of the vector being built.
+         */
+        public int size() {
+            return this.size;
+        }
+
+
+        /**
+         * Method to finish the edits and return them as a persistent version.
+         *
+         * @return new version containing the elements of this builder.
+         * @throws IllegalStateException if builder is already built.
+         */
+        public PersistentVector<E> build() {
+            ensureEditable();
+            edit = null;
+
+            int tailSize = size - tailOffset(size);
+            Object[] trimmedTail = new Object[tailSize];
+            System.arraycopy(tail, 0, trimmedTail, 0, tailSize);
+            return new PersistentVector<>(size, shift, root, trimmedTail);
+        }
+
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("Builder is already built");
+            }
+        }
+    }
+
+
+    /**
+     * Class used to implement the iterator of this vector (walks one leaf array at a time).
+     */
+    private class PersistentVectorIterator implements Iterator<E> {
+        private int index = 0;
+        private Object[] leaf;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public E next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+
+            if ((index & MASK) == 0) {
+                leaf = leafFor(index, size, shift, root, tail);
+            }
+
+            return (E) leaf[index++ & MASK];
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.akgarg.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Tiered vector: list with the {@link ArrayList} API and O(sqrt n) insertion and removal at any index.
+ * <p>
+ * Elements are kept in fixed-size blocks of B slots (a power of two). Every block is a circular buffer, and every
+ * block except the last one is full, so the block and offset of an index are found with a shift and a mask and
+ * {@link #get}/{@link #set} stay O(1). An insertion in the middle shifts at most B / 2 elements inside its own
+ * block and then moves one element from the end of every following block to the start of the next block, which is
+ * O(1) per block thanks to the circular buffers; removal works the other way round. Both cost O(B + n / B).
+ * </p>
+ * <p>
+ * The block size doubles (one O(n) rebuild) whenever the number of blocks reaches the block size, so B stays close
+ * to sqrt(n) and both operations are O(sqrt n). Elements of a block are contiguous, which keeps sequential scans
+ * cache friendly.
+ * </p>
+ * <p>This implementation is not synchronized (means no safety in multithreading environment).</p>
+ *
+ * @param <E> the type of elements to store in this list (class type only)
+ * @author Akhilesh Garg
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public class TieredVector<E> implements Iterable<E> {
+
+    private static final int DEFAULT_BLOCK_SIZE = 32;     // block size if user is not providing one
+    private static final int MAX_BLOCK_SIZE = 1 << 16;    // block size is never doubled beyond this value
+    private Object[][] blocks;  // blocks in use are blocks[0..blockCount), each of length blockSize
+    private int[] heads;        // index of the first element of every block in its circular buffer
+    private int blockCount;     // number of blocks in use (last one may be partially filled, never empty)
+    private int blockSize;      // number of slots of every block (power of two)
+    private int shift;          // log2 of block size
+    private int size;           // variable to hold the current size of the list
+    private final int initialBlockSize;     // block size the list is reset to by clear()
+
+
+    /**
+     * Default constructor to initialize all required fields to their respective default values.
+     */
+    public TieredVector() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+
+    /**
+     * Constructor to set the initial block size of the list (doubled automatically as the list grows).
+     *
+     * @param initialBlockSize initial number of slots of every block (power of two, at least 2).
+     * @throws IllegalArgumentException if block size is not a power of two in range [2, 65536].
+     */
+    public TieredVector(int initialBlockSize) {
+        if (initialBlockSize < 2 || initialBlockSize > MAX_BLOCK_SIZE || Integer.bitCount(initialBlockSize) != 1) {
+            throw new IllegalArgumentException("Invalid block size " + initialBlockSize);
+        }
+
+        this.initialBlockSize = initialBlockSize;
+        reset(initialBlockSize);
+    }
+
+
+    /**
+     * Method to add an element at the end of the list (O(1) amortized).
+     *
+     * @param element element to be append at the end of the list.
+     */
+    public void add(E element) {
+        ensureRoom();
+
+        int last = blockCount - 1;
+        pushBack(last, blockLength(last), element);
+        size++;
+    }
+
+
+    /**
+     * Method to add new element in the list at specific index position (O(sqrt n)).
+     *
+     * @param index   index position of new element.
+     * @param element element to add in list.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than size of list.
+     */
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range");
+        }
+
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        ensureRoom();
+
+        int block = index >>> shift;
+
+        // make room in the target block by moving the last element of every block to the start of the next one
+        for (int j = blockCount - 1; j > block; j--) {
+            pushFront(j, popBack(j - 1, blockSize));
+        }
+
+        int length = block == blockCount - 1 ? blockLength(block) : blockSize - 1;
+        insertInBlock(block, index & (blockSize - 1), length, element);
+        size++;
+    }
+
+
+    /**
+     * Method to remove the element of specified index (O(sqrt n)).
+     *
+     * @param index index position of element to remove.
+     * @return removed element.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid Index " + index);
+        }
+
+        int block = index >>> shift;
+        E element = removeInBlock(block, index & (blockSize - 1), blockLength(block));
+
+        // fill the hole by moving the first element of every following block to the end of the previous one
+        for (int j = block + 1; j < blockCount; j++) {
+            pushBack(j - 1, blockSize - 1, popFront(j));
+        }
+
+        size--;
+
+        if (size == (blockCount - 1) << shift) {
+            blocks[--blockCount] = null;
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Method to update the value of specified index with new value.
+     *
+     * @param index   index position of value to update.
+     * @param element new element to place at index provided.
+     * @return previous value at given index.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid Index " + index);
+        }
+
+        Object[] block = blocks[index >>> shift];
+        int slot = (heads[index >>> shift] + index) & (blockSize - 1);
+        E data = (E) block[slot];
+        block[slot] = element;
+        return data;
+    }
+
+
+    /**
+     * Method to retrieve the element at specified index in the list.
+     *
+     * @param index index to fetch the respective index value.
+     * @return return the value at specified index.
+     * @throws IndexOutOfBoundsException if index provided is less than 0 or greater than size-1.
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+
+        return (E) blocks[index >>> shift][(heads[index >>> shift] + index) & (blockSize - 1)];
+    }
+
+
+    /**
+     * Method to get the index of the specific element.
+     *
+     * @param object object whose index is to find.
+     * @return index position if element is present in the list or returns -1 if element is not in list.
+     */
+    public int indexOf(Object object) {
+        int index = 0;
+
+        for (E element : this) {
+            if (object == null ? element == null : object.equals(element)) {
+                return index;
+            }
+            index++;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Method to determine if an element is available in list or not.
+     *
+     * @param object object to check if this is available in list or not.
+     * @return true or false according to the element present or not in list.
+     */
+    public boolean contains(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+
+    /**
+     * Method to retrieve the current number of slots of every block.
+     *
+     * @return block size of the list.
+     */
+    public int blockSize() {
+        return this.blockSize;
+    }
+
+
+    /**
+     * Method to get the elements of the list in a new array (length equals to size).
+     *
+     * @return Array containing list data.
+     */
+    public Object[] toArray() {
+        Object[] elements = new Object[size];
+
+        for (int j = 0; j < blockCount; j++) {
+            int length = blockLength(j);
+            int head = heads[j];
+            int firstPart = Math.min(length, blockSize - head);
+            System.arraycopy(blocks[j], head, elements, j << shift, firstPart);
+            System.arraycopy(blocks[j], 0, elements, (j << shift) + firstPart, length - firstPart);
+        }
+
+        return elements;
+    }
+
+
+    /**
+     * Method to check if list is empty or not.
+     *
+     * @return true if list is empty else returns false.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Method to remove all elements from the list.
+     */
+    public void clear() {
+        reset(this.initialBlockSize);
+    }
+
+
+    /**
+     * Method to retrieve the current total number of elements in the list.
+     *
+     * @return size of the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    /**
+     * Method to return the string representation of the list.
+     * String returned is enclosed in square brackets ("[]").
+     * Adjacent elements are separated by comma (", ").
+     * If list is empty then only double brackets will be returned.
+     *
+     * @return String representation of the list
+     */
+    @Override
+    public String toString() {
+        if (this.size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (E element : this) {
+            sb.append(element);
+            sb.append(", ");
+        }
+
+        sb.setLength(sb.length() - 2);
+        sb.append("]");
+        return sb.toString();
+    }
+
+
+    /**
+     * Method to get the iterator over this list (walks every block sequentially).
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TieredVectorIterator();
+    }
+
+
+    /**
+     * Private method to make sure the last block has a free slot, adding a block (and doubling the block size when
+     * the number of blocks reaches it) if every block is full.
+     */
+    private void ensureRoom() {
+        if (size < blockCount << shift) {
+            return;
+        }
+
+        if (blockCount >= blockSize && blockSize < MAX_BLOCK_SIZE) {
+            rebuild(blockSize << 1);
+
+            if (size < blockCount << shift) {
+                return;
+            }
+        }
+
+        if (blockCount == blocks.length) {
+            int newLength = CapacityPolicy.DOUBLING.grow(blocks.length, blockCount + 1);
+            Object[][] newBlocks = new Object[newLength][];
+            int[] newHeads = new int[newLength];
+            System.arraycopy(blocks, 0, newBlocks, 0, blockCount);
+            System.arraycopy(heads, 0, newHeads, 0, blockCount);
+            blocks = newBlocks;
+            heads = newHeads;
+        }
+
+        blocks[blockCount] = new Object[blockSize];
+        heads[blockCount] = 0;
+        blockCount++;
+    }
+
+
+    /**
+     * Private method to copy all elements in blocks of given size (every block starts at slot 0).
+     *
+     * @param newBlockSize new block size (power of two).
+     */
+    private void rebuild(int newBlockSize) {
+        Object[] elements = toArray();
+        int newBlockCount = (size + newBlockSize - 1) / newBlockSize;
+
+        this.blockSize = newBlockSize;
+        this.shift = Integer.numberOfTrailingZeros(newBlockSize);
+        this.blocks = new Object[Math.max(newBlockCount, 4)][];
+        this.heads = new int[this.blocks.length];
+        this.blockCount = newBlockCount;
+
+        for (int j = 0; j < newBlockCount; j++) {
+            blocks[j] = new Object[newBlockSize];
+            System.arraycopy(elements, j << shift, blocks[j], 0, Math.min(newBlockSize, size - (j << shift)));
+        }
+    }
+
+
+    /**
+     * Private method to empty the list and set the block size.
+     */
+    private void reset(int blockSize) {
+        this.blockSize = blockSize;
+        this.shift = Integer.numberOfTrailingZeros(blockSize);
+        this.blocks = new Object[4][];
+        this.heads = new int[4];
+        this.blockCount = 0;
+        this.size = 0;
+    }
+
+
+    /**
+     * Private method to get the number of elements in given block.
+     */
+    private int blockLength(int block) {
+        return Math.min(blockSize, size - (block << shift));
+    }
+
+
+    /**
+     * Private method to insert an element at given offset of a block which is not full, shifting the shorter side.
+     */
+    private void insertInBlock(int block, int offset, int length, E element) {
+        Object[] array = blocks[block];
+        int mask = blockSize - 1;
+        int head = heads[block];
+
+        if (offset < length / 2) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < offset; i++) {
+                array[(head + i) & mask] = array[(head + i + 1) & mask];
+            }
+            heads[block] = head;
+        } else {
+            for (int i = length; i > offset; i--) {
+                array[(head + i) & mask] = array[(head + i - 1) & mask];
+            }
+        }
+
+        array[(head + offset) & mask] = element;
+    }
+
+
+    /**
+     * Private method to remove the element at given offset of a block, closing the hole from the shorter side.
+     */
+    private E removeInBlock(int block, int offset, int length) {
+        Object[] array = blocks[block];
+        int mask = blockSize - 1;
+        int head = heads[block];
+        E element = (E) array[(head + offset) & mask];
+
+        if (offset < length / 2) {
+            for (int i = offset; i > 0; i--) {
+                array[(head + i) & mask] = array[(head + i - 1) & mask];
+            }
+            array[head] = null;
+            heads[block] = (head + 1) & mask;
+        } else {
+            for (int i = offset; i < length - 1; i++) {
+                array[(head + i) & mask] = array[(head + i + 1) & mask];
+            }
+            array[(head + length - 1) & mask] = null;
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Private method to remove the last element of a block holding given number of elements.
+     */
+    private Object popBack(int block, int length) {
+        int slot = (heads[block] + length - 1) & (blockSize - 1);
+        Object element = blocks[block][slot];
+        blocks[block][slot] = null;
+        return element;
+    }
+
+
+    /**
+     * Private method to remove the first element of a block.
+     */
+    private Object popFront(int block) {
+        int head = heads[block];
+        Object element = blocks[block][head];
+        blocks[block][head] = null;
+        heads[block] = (head + 1) & (blockSize - 1);
+        return element;
+    }
+
+
+    /**
+     * Private method to add an element at the end of a block holding given number of elements.
+     */
+    private void pushBack(int block, int length, Object element) {
+        blocks[block][(heads[block] + length) & (blockSize - 1)] = element;
+    }
+
+
+    /**
+     * Private method to add an element at the start of a block which is not full.
+     */
+    private void pushFront(int block, Object element) {
+        int head = (heads[block] - 1) & (blockSize - 1);
+        blocks[block][head] = element;
+        heads[block] = head;
+    }
+
+
+    /**
+     * Class used to implement the iterator.
+     */
+    private class TieredVectorIterator implements Iterator<E> {
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return this.index < size;
+        }
+
+        @Override
+        public E next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+
+            int block = index >>> shift;
+            return (E) blocks[block][(heads[block] + index++) & (blockSize - 1)];
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.akgarg.datastructures;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * Lock-free sorted singly linked list (Harris-Michael algorithm) holding distinct elements.
+ * <p>
+ * Every next reference carries a <strong>mark</strong> bit ({@link AtomicMarkableReference}). A node is removed
+ * in two steps: it is first logically deleted by marking its own next reference, then physically unlinked by a CAS
+ * on the next reference of its predecessor. Any thread which meets a marked node while searching helps to unlink
+ * it, so no thread ever waits for another one. {@link #contains} never writes at all.
+ * </p>
+ * <p>
+ * Elements are ordered by their natural ordering or by the comparator provided at construction time, and
+ * elements comparing equal are considered duplicates. Iterators are weakly consistent: they return elements in
+ * ascending order, never throw on concurrent change and may or may not return elements added or removed after
+ * their creation.
+ * </p>
+ * <p>This implementation is thread safe. Null elements are not allowed.</p>
+ *
+ * @param <E> the type of elements to store in this collection (class type only)
+ * @author Akhilesh Garg
+ */
+public class ConcurrentSortedLinkedList<E extends Comparable<E>> implements Iterable<E> {
+
+    // Comparator used to order the elements (null for natural ordering)
+    private final Comparator<? super E> comparator;
+
+    // Sentinel node before the first element (its item is always null)
+    private final Node<E> head = new Node<>(null, null);
+
+
+    /**
+     * Creates an empty list which orders elements by their natural ordering.
+     */
+    public ConcurrentSortedLinkedList() {
+        this(null);
+    }
+
+
+    /**
+     * Creates an empty list which orders elements with the specified comparator.
+     *
+     * @param comparator comparator used to order elements (null for natural ordering)
+     */
+    public ConcurrentSortedLinkedList(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+
+    /**
+     * Method to insert the element at its sorted position in the list if it is not already present.
+     *
+     * @param element element to add in the list
+     * @return true if element is added, false if an equal element is already present
+     * @throws NullPointerException if element is null
+     */
+    public boolean add(E element) {
+        if (element == null) {
+            throw new NullPointerException("null insertion is not allowed");
+        }
+
+        while (true) {
+            Window<E> window = find(element);
+
+            if (window.current != null && compare(window.current.item, element) == 0) {
+                return false;
+            }
+
+            Node<E> node = new Node<>(element, window.current);
+
+            if (window.previous.next.compareAndSet(window.current, node, false, false)) {
+                return true;
+            }
+        }
+    }
+
+
+    /**
+     * Method to remove the element equal to the specified element from the list.
+     *
+     * @param element element to remove from the list
+     * @return true if element was present and is removed by this call, false otherwise
+     * @throws NullPointerException if element is null
+     */
+    public boolean remove(E element) {
+        if (element == null) {
+            throw new NullPointerException("null element is not allowed");
+        }
+
+        while (true) {
+            Window<E> window = find(element);
+            Node<E> current = window.current;
+
+            if (current == null || compare(current.item, element) != 0) {
+                return false;
+            }
+
+            Node<E> successor = current.next.getReference();
+
+            // logical deletion: the thread which marks the node owns the removal
+            if (!current.next.compareAndSet(successor, successor, false, true)) {
+                continue;
+            }
+
+            // physical deletion: may fail if predecessor changed, a later search will unlink the node
+            window.previous.next.compareAndSet(current, successor, false, false);
+            return true;
+        }
+    }
+
+
+    /**
+     * Method to check if an element equal to the specified element is present in the list (wait-free).
+     *
+     * @param element element to search in the list
+     * @return true if element is present else false
+     * @throws NullPointerException if element is null
+     */
+    public boolean contains(E element) {
+        if (element == null) {
+            throw new NullPointerException("null element is not allowed");
+        }
+
+        Node<E> current = head.next.getReference();
+
+        while (current != null && compare(current.item, element) < 0) {
+            current = current.next.getReference();
+        }
+
+        return current != null && compare(current.item, element) == 0 && !current.next.isMarked();
+    }
+
+
+    /**
+     * Method to retrieve the least element of the list.
+     *
+     * @return least element or null if list is empty
+     */
+    public E first() {
+        Node<E> current = head.next.getReference();
+
+        while (current != null && current.next.isMarked()) {
+            current = current.next.getReference();
+        }
+
+        return current == null ? null : current.item;
+    }
+
+
+    /**
+     * Method to check if the list is empty or not.
+     * <p>Value is a snapshot and may be stale by the time it is used.</p>
+     *
+     * @return true if list is empty else false
+     */
+    public boolean isEmpty() {
+        return first() == null;
+    }
+
+
+    /**
+     * Method to count the elements of the list by traversing it (O(n)).
+     * <p>Value is a snapshot and may be stale by the time it is used.</p>
+     *
+     * @return number of elements in list
+     */
+    public int size() {
+        int size = 0;
+
+        for (Node<E> node = head.next.getReference(); node != null; node = node.next.getReference()) {
+            if (!node.next.isMarked() && size < Integer.MAX_VALUE) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Method to retrieve the comparator used to order the elements.
+     *
+     * @return comparator or null if natural ordering is used
+     */
+    public Comparator<? super E> comparator() {
+        return this.comparator;
+    }
+
+
+    /**
+     * Method to return the string representation of linked list (weakly consistent).
+     * String returned is enclosed in square brackets ("[]").
+     * Adjacent elements are seperated by comma (", ").
+     * If list is empty then only double brackets will be returned.
+     *
+     * @return String representation of the linked list
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+
+        for (E element : this) {
+            result.append(element);
+            result.append(", ");
+        }
+
+        if (result.length() > 1) {
+            result.setLength(result.length() - 2);
+        }
+
+        result.append("]");
+        return result.toString();
+    }
+
+
+    /**
+     * Method to get the weakly consistent iterator of the list (ascending order).
+     *
+     * @return iterator object
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new LinkedListIterator();
+    }
+
+
+    /**
+     * Private method to find the window (previous, current) where current is the first node whose element is not
+     * less than the given element. Marked nodes met on the way are unlinked.
+     *
+     * @param element element to search
+     * @return window of the element (current is null if all elements are less than given element)
+     */
+    private Window<E> find(E element) {
+        boolean[] marked = new boolean[1];
+
+        retry:
+        while (true) {
+            Node<E> previous = head;
+            Node<E> current = previous.next.getReference();
+
+            while (true) {
+                if (current == null) {
+                    return new Window<>(previous, null);
+                }
+
+                Node<E> successor = current.next.get(marked);
+
+                while (marked[0]) {
+                    if (!previous.next.compareAndSet(current, successor, false, false)) {
+                        continue retry;
+                    }
+
+                    current = successor;
+
+                    if (current == null) {
+                        return new Window<>(previous, null);
+                    }
+
+                    successor = current.next.get(marked);
+                }
+
+                if (compare(current.item, element) >= 0) {
+                    return new Window<>(previous, current);
+                }
+
+                previous = current;
+                current = successor;
+            }
+        }
+    }
+
+
+    /**
+     * Private method to compare two elements with the comparator (if available) or natural ordering.
+     */
+    private int compare(E first, E second) {
+        return comparator == null ? first.compareTo(second) : comparator.compare(first, second);
+    }
+
+
+    /**
+     * class representing each node of the list. The mark of next reference tells if this node is deleted.
+     */
+    private static final class Node<T> {
+        private final T item;
+        private final AtomicMarkableReference<Node<T>> next;
+
+        Node(T item, Node<T> next) {
+            this.item = item;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+    }
+
+
+    /**
+     * Pair of adjacent nodes returned by {@link #find}.
+     */
+    private static final class Window<T> {
+        private final Node<T> previous;
+        private final Node<T> current;
+
+        Window(Node<T> previous, Node<T> current) {
+            this.previous = previous;
+            this.current = current;
+        }
+    }
+
+
+    /**
+     * class used to implement the weakly consistent iterator (skips deleted nodes).
+     */
+    private class LinkedListIterator implements Iterator<E> {
+        private Node<E> node = advance(head.next.getReference());
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        public E next() {
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+
+            E item = node.item;
+            node = advance(node.next.getReference());
+            return item;
+        }
+
+        private Node<E> advance(Node<E> from) {
+            while (from != null && from.next.isMarked()) {
+                from = from.next.getReference();
+            }
+
+            return from;
+        }
+    }
+}
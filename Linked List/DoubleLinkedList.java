@@ -1,5 +1,7 @@
 package com.akgarg.datastructures;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ListIterator;
 
 /**
@@ -21,6 +23,12 @@ public class DoubleLinkedList<E> implements Iterable<E> {
     // variable to hold the current size of the Linked List
     private int size;
 
+    // policy deciding if clear() unlinks every node or only drops the chain
+    private ClearPolicy clearPolicy = ClearPolicy.RELEASE;
+
+    // metrics shared by all double linked lists (recorded only if enabled)
+    private static final ContainerMetrics METRICS = ContainerMetrics.register("DoubleLinkedList");
+
 
     /**
      * Default Constructor to initialize required fields to their default values.
@@ -77,6 +85,10 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             return addFirst(element);
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         int count = 0;
         Node<E> node = start;
 
@@ -93,6 +105,14 @@ public class DoubleLinkedList<E> implements Iterable<E> {
         node.setPrevious(newNode);
         size++;
 
+        event.record("DoubleLinkedList", "add", index, size - 1, index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         return true;
     }
 
@@ -135,6 +155,10 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             return removeFirst();
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         Node<E> node = start;
         int count = 0;
 
@@ -147,6 +171,14 @@ public class DoubleLinkedList<E> implements Iterable<E> {
         node.getNext().setPrevious(node.getPrevious());
         size--;
 
+        event.record("DoubleLinkedList", "remove", index, size + 1, index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         return node.getData();
     }
 
@@ -163,6 +195,10 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             throw new IllegalStateException("Linked List is empty");
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (size == 1) {
             return removeSingle();
         }
@@ -187,6 +223,10 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             throw new IllegalStateException("Linked List is empty");
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (size == 1) {
             return removeSingle();
         }
@@ -227,6 +267,10 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("Invalid index " + index);
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         int count = 0;
         Node<E> node = start;
 
@@ -235,6 +279,14 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             node = node.getNext();
         }
 
+        event.record("DoubleLinkedList", "get", index, size, index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         return node.getData();
     }
 
@@ -250,6 +302,10 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             return false;
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (start == null) {
             start = new Node<>(element);
             pointer = start;
@@ -277,6 +333,10 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             return false;
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (start == null) {
             start = new Node<>(element);
             pointer = start;
@@ -325,6 +385,17 @@ public class DoubleLinkedList<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Method to retrieve the metrics shared by all double linked lists.
+     * Metrics are recorded only if {@link ContainerMetrics#ENABLED} is true.
+     *
+     * @return metrics of DoubleLinkedList type.
+     */
+    public static ContainerMetricsMXBean metrics() {
+        return METRICS;
+    }
+
+
     /**
      * Method to know if linked list is empty or not.
      *
@@ -347,6 +418,10 @@ public class DoubleLinkedList<E> implements Iterable<E> {
 
     /**
      * Method to remove all elements from the linked list.
+     * <p>With {@link ClearPolicy#SCRATCH} only the chain is dropped (O(1)), otherwise every node is unlinked (O(n)),
+     * see {@link ClearPolicy} for GC implications.</p>
+     *
+     * @return true if linked list was not empty otherwise returns false.
      */
     @SuppressWarnings("unused")
     public boolean clear() {
@@ -354,19 +429,84 @@ public class DoubleLinkedList<E> implements Iterable<E> {
             return false;
         }
 
-        if (size == 1) {
-            removeSingle();
+        if (clearPolicy != ClearPolicy.SCRATCH) {
+            Node<E> node = start;
+
+            while (node != null) {
+                Node<E> next = node.getNext();
+                node.setPrevious(null);
+                node.setNext(null);
+                node.setData(null);
+                node = next;
+            }
         }
 
-        Node<E> node = start;
+        start = null;
+        pointer = null;
+        size = 0;
+        return true;
+    }
 
-        while (node != null) {
-            node.setPrevious(null);
-            node.setData(null);
-            node = node.getNext();
-            size--;
+
+    /**
+     * Method to set what {@link #clear()} does with the nodes of the linked list.
+     *
+     * @param clearPolicy new clear policy.
+     * @throws NullPointerException if clear policy is null.
+     */
+    public void setClearPolicy(ClearPolicy clearPolicy) {
+        if (clearPolicy == null) {
+            throw new NullPointerException("Clear policy can't be null");
+        }
+
+        this.clearPolicy = clearPolicy;
+    }
+
+
+    /**
+     * Method to fetch the clear policy of the linked list.
+     *
+     * @return policy deciding what clear() does with the nodes.
+     */
+    public ClearPolicy clearPolicy() {
+        return this.clearPolicy;
+    }
+
+
+    /**
+     * Method to write a compact binary snapshot of the list to the given file (file is created or truncated).
+     *
+     * @param path  file to write the snapshot to.
+     * @param codec codec used to encode the elements.
+     * @throws IOException          if an I/O error occurs.
+     * @throws NullPointerException if codec is null.
+     */
+    public void writeSnapshot(Path path, ElementCodec<? super E> codec) throws IOException {
+        Snapshot.write(path, Snapshot.DOUBLE_LINKED_LIST, size, this, codec, null);
+    }
+
+
+    /**
+     * Method to restore a list from a snapshot written by {@link #writeSnapshot}.
+     *
+     * @param path  file to read the snapshot from.
+     * @param codec codec used to decode the elements.
+     * @param <E>   the type of elements.
+     * @return restored list.
+     * @throws IOException          if an I/O error occurs or the file is not a list snapshot of this type.
+     * @throws NullPointerException if codec is null.
+     */
+    public static <E> DoubleLinkedList<E> readSnapshot(Path path, ElementCodec<E> codec) throws IOException {
+        try (Snapshot.Reader<E> reader = Snapshot.read(path, Snapshot.DOUBLE_LINKED_LIST, codec)) {
+            DoubleLinkedList<E> list = new DoubleLinkedList<>();
+            int size = reader.size();
+
+            for (int i = 0; i < size; i++) {
+                list.addLast(reader.next());
+            }
+
+            return list;
         }
-        return true;
     }
 
 
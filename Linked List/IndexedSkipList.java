@@ -0,0 +1,412 @@
+package com.akgarg.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Indexable skip list: a linked list with O(log n) positional access.
+ * <p>
+ * Elements are kept in insertion (positional) order in the bottom level of a skip list. Every forward link of every
+ * level also stores its <strong>width</strong>, the number of positions it skips, so {@link #get}, {@link #set},
+ * {@link #add(int, Object)} and {@link #remove(int)} walk down the levels summing widths instead of counting nodes
+ * one by one, in expected O(log n) time. Iteration follows the bottom level, O(1) per element.
+ * </p>
+ * <p>
+ * The API and exceptions follow {@link SingleLinkedList}. This implementation is non-synchronized and allows null
+ * elements.
+ * </p>
+ *
+ * @param <E> the type of elements to store in this collection (class type only)
+ * @author Akhilesh Garg
+ */
+public class IndexedSkipList<E> implements Iterable<E> {
+
+    // Maximum number of levels (enough for Integer.MAX_VALUE elements with probability 1/2 per level)
+    private static final int MAX_LEVEL = 32;
+
+    // Sentinel node at position 0 (element of index i is at position i + 1)
+    private final Node<E> head = new Node<>(null, MAX_LEVEL);
+
+    // Number of levels in use
+    private int level = 1;
+
+    // Integer variable to hold the current size of the list
+    private int size;
+
+
+    /**
+     * Creates an empty list.
+     */
+    public IndexedSkipList() {
+        head.width[0] = 1;
+    }
+
+
+    /**
+     * Method to append the element at the end of the list
+     *
+     * @param element element to add in the list
+     * @return true
+     */
+    public boolean add(E element) {
+        return add(size, element);
+    }
+
+
+    /**
+     * Method to insert the element at specified position in the list (O(log n))
+     *
+     * @param index   position where to insert the new element
+     * @param element element to be inserted in list
+     * @return true if element is successfully inserted
+     * @throws IndexOutOfBoundsException (if index<0 || index>size)
+     */
+    public boolean add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+
+        int nodeLevel = randomLevel();
+
+        if (nodeLevel > level) {
+            for (int l = level; l < nodeLevel; l++) {
+                head.next[l] = null;
+                head.width[l] = size + 1;
+            }
+            level = nodeLevel;
+        }
+
+        // predecessors of the new node on every level and their positions
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node<E>[] update = new Node[level];
+        int[] rank = new int[level];
+        Node<E> node = head;
+        int position = 0;
+
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && position + node.width[l] <= index) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+            update[l] = node;
+            rank[l] = position;
+        }
+
+        Node<E> newNode = new Node<>(element, nodeLevel);
+
+        for (int l = 0; l < level; l++) {
+            Node<E> previous = update[l];
+
+            if (l < nodeLevel) {
+                newNode.next[l] = previous.next[l];
+                newNode.width[l] = previous.width[l] + rank[l] - index;
+                previous.next[l] = newNode;
+                previous.width[l] = index + 1 - rank[l];
+            } else {
+                previous.width[l]++;
+            }
+        }
+
+        size++;
+        return true;
+    }
+
+
+    /**
+     * Method to add new element at beginning of the list
+     *
+     * @param element element to insert in the beginning
+     * @return true
+     */
+    public boolean addFirst(E element) {
+        return add(0, element);
+    }
+
+
+    /**
+     * Method to add new element at the end of the list
+     *
+     * @param element element to add in the list
+     * @return true
+     */
+    public boolean addLast(E element) {
+        return add(size, element);
+    }
+
+
+    /**
+     * Method to retrieve the element at certain index from list (O(log n))
+     *
+     * @param index index of element to return
+     * @return the element of the specified index
+     * @throws NoSuchElementException    (if list is empty)
+     * @throws IndexOutOfBoundsException (if index<0 || index>=size())
+     */
+    public E get(int index) {
+        return nodeAt(index).data;
+    }
+
+
+    /**
+     * method to remove the first element from the list
+     *
+     * @return element removed from list
+     * @throws NoSuchElementException (if list is empty)
+     */
+    public E remove() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is Empty");
+        }
+
+        return remove(0);
+    }
+
+
+    /**
+     * Method to remove an element from specific position from list (O(log n)).
+     *
+     * @param index position of element to delete
+     * @return returns the element which is deleted
+     * @throws NoSuchElementException    if list is empty
+     * @throws IndexOutOfBoundsException if (index<0 || index>=size())
+     */
+    public E remove(int index) {
+        checkElementIndex(index);
+
+        // predecessors of the removed node on every level
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node<E>[] update = new Node[level];
+        Node<E> node = head;
+        int position = 0;
+
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && position + node.width[l] <= index) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+            update[l] = node;
+        }
+
+        Node<E> removed = update[0].next[0];
+
+        for (int l = 0; l < level; l++) {
+            Node<E> previous = update[l];
+
+            if (previous.next[l] == removed) {
+                previous.next[l] = removed.next[l];
+                previous.width[l] += removed.width[l] - 1;
+            } else {
+                previous.width[l]--;
+            }
+        }
+
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        size--;
+        return removed.data;
+    }
+
+
+    /**
+     * method to replace the element at the given index position with given element (O(log n))
+     *
+     * @param index   index position to replace element
+     * @param element element to be stored.
+     * @return previous data at the index position.
+     * @throws NoSuchElementException    if list is empty
+     * @throws IndexOutOfBoundsException if(index < 0 || index >= size)
+     */
+    public E set(int index, E element) {
+        Node<E> node = nodeAt(index);
+        E previousElement = node.data;
+        node.data = element;
+        return previousElement;
+    }
+
+
+    /**
+     * Returns the first element in the list
+     *
+     * @return returns the first element of the list.
+     * @throws NoSuchElementException if list is empty.
+     */
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+
+        return head.next[0].data;
+    }
+
+
+    /**
+     * Returns the last element in the list (O(log n))
+     *
+     * @return returns the last element of the list.
+     * @throws NoSuchElementException if list is empty.
+     */
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+
+        return nodeAt(size - 1).data;
+    }
+
+
+    /**
+     * Method to remove all elements from the list.
+     */
+    public void clear() {
+        for (int l = 0; l < level; l++) {
+            head.next[l] = null;
+        }
+
+        head.width[0] = 1;
+        level = 1;
+        size = 0;
+    }
+
+
+    /**
+     * Returns if list is empty or not.
+     *
+     * @return false if list is not empty,
+     * true if list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+
+    /**
+     * Returns the total number of elements currently in the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    /**
+     * Method to return the string representation of list.
+     * String returned is enclosed in square brackets ("[]").
+     * Adjacent elements are seperated by comma (", ").
+     * If list is empty then only double brackets will be returned.
+     *
+     * @return String representation of the list
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder result = new StringBuilder("[");
+        for (Node<E> node = head.next[0]; node != null; node = node.next[0]) {
+            result.append(node.data);
+            result.append(", ");
+        }
+
+        result.setLength(result.length() - 2);
+        result.append("]");
+
+        return result.toString();
+    }
+
+
+    @Override
+    public Iterator<E> iterator() {
+        return new LinkedListIterator();
+    }
+
+
+    /**
+     * Private method to find the node of given index by summing the widths of the links followed.
+     */
+    private Node<E> nodeAt(int index) {
+        checkElementIndex(index);
+
+        int target = index + 1;
+        Node<E> node = head;
+        int position = 0;
+
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && position + node.width[l] <= target) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+
+            if (position == target) {
+                break;
+            }
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Private method to validate the index of an existing element.
+     */
+    private void checkElementIndex(int index) {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+    }
+
+
+    /**
+     * Private method to pick the level of a new node (level l + 1 with probability 1/2 of level l).
+     */
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1))) + 1;
+    }
+
+
+    /**
+     * class representing each node of the list: forward links of every level of the node and their widths.
+     */
+    private static final class Node<T> {
+        private T data;
+        private final Node<T>[] next;
+        private final int[] width;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node(T data, int level) {
+            this.data = data;
+            this.next = new Node[level];
+            this.width = new int[level];
+        }
+    }
+
+
+    /**
+     * class used to implement the iterator (follows the bottom level).
+     */
+    private class LinkedListIterator implements Iterator<E> {
+        private Node<E> node = head.next[0];
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        public E next() {
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+
+            Node<E> temp = node;
+            node = node.next[0];
+            return temp.data;
+        }
+    }
+}
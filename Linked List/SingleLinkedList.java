@@ -1,5 +1,7 @@
 package com.akgarg.datastructures;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -23,6 +25,12 @@ public class SingleLinkedList<E> implements Iterable<E> {
     // Node reference to keep track of last node of list
     private Node<E> pointer = null;
 
+    // Policy deciding if clear() unlinks every node or only drops the chain
+    private ClearPolicy clearPolicy = ClearPolicy.RELEASE;
+
+    // Metrics shared by all single linked lists (recorded only if enabled)
+    private static final ContainerMetrics METRICS = ContainerMetrics.register("SingleLinkedList");
+
 
     /**
      * Method to append the element at the end of the list
@@ -31,6 +39,10 @@ public class SingleLinkedList<E> implements Iterable<E> {
      * @return true
      */
     public boolean add(E element) {
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (start == null) {
             start = new Node<>(element);
             pointer = start;
@@ -64,6 +76,10 @@ public class SingleLinkedList<E> implements Iterable<E> {
             return addLast(element);
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         Node<E> current = null;
         Node<E> prev = null;
         int count = 0;
@@ -89,6 +105,14 @@ public class SingleLinkedList<E> implements Iterable<E> {
         }
         newNode.setNext(current);
 
+        event.record("SingleLinkedList", "add", index, size - 1, index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         return true;
     }
 
@@ -100,6 +124,10 @@ public class SingleLinkedList<E> implements Iterable<E> {
      * @return true
      */
     public boolean addFirst(E element) {
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (start == null) {
             start = new Node<>(element);
             pointer = start;
@@ -122,6 +150,10 @@ public class SingleLinkedList<E> implements Iterable<E> {
      * @return true
      */
     public boolean addLast(E element) {
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (start == null) {
             start = new Node<>(element);
             pointer = start;
@@ -153,6 +185,10 @@ public class SingleLinkedList<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("Invalid Index");
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         Node<E> node = start;
         int count = 0;
 
@@ -164,6 +200,14 @@ public class SingleLinkedList<E> implements Iterable<E> {
             }
         }
 
+        event.record("SingleLinkedList", "get", index, size, index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         return node.getData();
     }
 
@@ -179,6 +223,10 @@ public class SingleLinkedList<E> implements Iterable<E> {
             throw new NoSuchElementException("Linked List in Empty");
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         Node<E> element = start;
         start = start.getNext();
         size--;
@@ -207,6 +255,10 @@ public class SingleLinkedList<E> implements Iterable<E> {
             return remove();
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         if (index == size - 1) {
             int count = 0;
             Node<E> tempCurrent = start;
@@ -224,6 +276,14 @@ public class SingleLinkedList<E> implements Iterable<E> {
             pointer = tempPrev;
             size--;
 
+            event.record("SingleLinkedList", "remove", index, size + 1, index);
+
+            if (ContainerMetrics.ENABLED) {
+                METRICS.recordOperation();
+                METRICS.recordTraversal(index);
+                METRICS.recordLinearOperation(startNanos);
+            }
+
             return tempCurrent.getData();
         }
 
@@ -251,6 +311,14 @@ public class SingleLinkedList<E> implements Iterable<E> {
         prev.setNext(current.getNext());
         size--;
 
+        event.record("SingleLinkedList", "remove", index, size + 1, index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         return node.getData();
     }
 
@@ -273,6 +341,10 @@ public class SingleLinkedList<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("Invalid index " + index);
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         Node<E> node = start;
         int count = 0;
 
@@ -283,6 +355,14 @@ public class SingleLinkedList<E> implements Iterable<E> {
         E previousElement = node.getData();
         node.setData(element);
 
+        event.record("SingleLinkedList", "set", index, size, index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordTraversal(index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         return previousElement;
     }
     
@@ -341,6 +421,17 @@ public class SingleLinkedList<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Returns the metrics shared by all single linked lists.
+     * Metrics are recorded only if {@link ContainerMetrics#ENABLED} is true.
+     *
+     * @return metrics of SingleLinkedList type
+     */
+    public static ContainerMetricsMXBean metrics() {
+        return METRICS;
+    }
+
+
     /**
      * Returns if linked list is empty or not.
      *
@@ -360,6 +451,91 @@ public class SingleLinkedList<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Method to remove all elements from the list.
+     * <p>With {@link ClearPolicy#SCRATCH} only the chain is dropped (O(1)), otherwise every node is unlinked (O(n)),
+     * see {@link ClearPolicy} for GC implications.</p>
+     */
+    public void clear() {
+        if (clearPolicy != ClearPolicy.SCRATCH) {
+            Node<E> node = start;
+
+            while (node != null) {
+                Node<E> next = node.getNext();
+                node.setNext(null);
+                node.setData(null);
+                node = next;
+            }
+        }
+
+        start = null;
+        pointer = null;
+        size = 0;
+    }
+
+
+    /**
+     * Method to set what {@link #clear()} does with the nodes of the list.
+     *
+     * @param clearPolicy new clear policy
+     * @throws NullPointerException if clear policy is null
+     */
+    public void setClearPolicy(ClearPolicy clearPolicy) {
+        if (clearPolicy == null) {
+            throw new NullPointerException("Clear policy can't be null");
+        }
+
+        this.clearPolicy = clearPolicy;
+    }
+
+
+    /**
+     * Returns the clear policy of the list
+     *
+     * @return policy deciding what clear() does with the nodes
+     */
+    public ClearPolicy clearPolicy() {
+        return this.clearPolicy;
+    }
+
+
+    /**
+     * Method to write a compact binary snapshot of the list to the given file (file is created or truncated).
+     *
+     * @param path  file to write the snapshot to.
+     * @param codec codec used to encode the elements.
+     * @throws IOException          if an I/O error occurs.
+     * @throws NullPointerException if codec is null.
+     */
+    public void writeSnapshot(Path path, ElementCodec<? super E> codec) throws IOException {
+        Snapshot.write(path, Snapshot.SINGLE_LINKED_LIST, size, this, codec, null);
+    }
+
+
+    /**
+     * Method to restore a list from a snapshot written by {@link #writeSnapshot}.
+     *
+     * @param path  file to read the snapshot from.
+     * @param codec codec used to decode the elements.
+     * @param <E>   the type of elements.
+     * @return restored list.
+     * @throws IOException          if an I/O error occurs or the file is not a list snapshot of this type.
+     * @throws NullPointerException if codec is null.
+     */
+    public static <E> SingleLinkedList<E> readSnapshot(Path path, ElementCodec<E> codec) throws IOException {
+        try (Snapshot.Reader<E> reader = Snapshot.read(path, Snapshot.SINGLE_LINKED_LIST, codec)) {
+            SingleLinkedList<E> list = new SingleLinkedList<>();
+            int size = reader.size();
+
+            for (int i = 0; i < size; i++) {
+                list.addLast(reader.next());
+            }
+
+            return list;
+        }
+    }
+
+
     /**
      * Method to return the string representation of linked list.
      * String returned is enclosed in square brackets ("[]").
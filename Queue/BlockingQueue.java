@@ -0,0 +1,415 @@
+package com.akgarg.datastructures;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded blocking queue implementation backed by {@link Queue}.
+ * <p>
+ * Producers waiting on a full queue ({@link #put}, {@link #offer(Object, long, TimeUnit)}) and consumers
+ * waiting on an empty queue ({@link #take}, {@link #poll(long, TimeUnit)}) are parked instead of spinning,
+ * which gives capacity based backpressure between pipeline stages.
+ * </p>
+ * <p>
+ * All waiting is done with {@link ReentrantLock} and {@link Condition} (never <code>synchronized</code>),
+ * so virtual threads blocked on this queue unmount from their carrier threads instead of pinning them.
+ * </p>
+ * <p>This implementation is thread safe. Null elements are not allowed.</p>
+ *
+ * @param <E> the type of elements to store in this queue (class type only)
+ * @author Akhilesh Garg
+ */
+public class BlockingQueue<E> implements Iterable<E> {
+
+    // queue holding the elements, guarded by lock
+    private final Queue<E> queue;
+
+    // maximum number of elements this queue can hold
+    private final int capacity;
+
+    // lock guarding all accesses to the queue
+    private final ReentrantLock lock;
+
+    // condition signalled when an element is inserted
+    private final Condition notEmpty;
+
+    // condition signalled when an element is removed
+    private final Condition notFull;
+
+
+    /**
+     * Creates a blocking queue of given capacity with non-fair lock.
+     *
+     * @param capacity maximum number of elements the queue can hold.
+     * @throws IllegalArgumentException if capacity is less than 1.
+     */
+    public BlockingQueue(int capacity) {
+        this(capacity, false);
+    }
+
+
+    /**
+     * Creates a blocking queue of given capacity and lock fairness.
+     *
+     * @param capacity maximum number of elements the queue can hold.
+     * @param fair     if true, threads waiting on the queue are served in FIFO order.
+     * @throws IllegalArgumentException if capacity is less than 1.
+     */
+    public BlockingQueue(int capacity, boolean fair) {
+        if (capacity <= 0 || capacity > CapacityPolicy.MAX_ARRAY_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+
+        this.queue = new Queue<>(capacity);
+        this.capacity = capacity;
+        this.lock = new ReentrantLock(fair);
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+
+
+    /**
+     * Method to insert new element at the end of the queue, waiting for space to become available if queue is full.
+     *
+     * @param element element to append in the queue.
+     * @throws NullPointerException if element provided is null.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void put(E element) throws InterruptedException {
+        requireNonNull(element);
+        lock.lockInterruptibly();
+
+        try {
+            while (queue.size() == capacity) {
+                notFull.await();
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to insert new element at the end of the queue if space is available.
+     *
+     * @param element element to append in the queue.
+     * @return true if element is inserted or false if queue is full.
+     * @throws NullPointerException if element provided is null.
+     */
+    public boolean offer(E element) {
+        requireNonNull(element);
+        lock.lock();
+
+        try {
+            if (queue.size() == capacity) {
+                return false;
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to insert new element at the end of the queue, waiting up to given time for space to become available.
+     *
+     * @param element element to append in the queue.
+     * @param timeout maximum time to wait.
+     * @param unit    time unit of the timeout.
+     * @return true if element is inserted or false if time elapsed before space was available.
+     * @throws NullPointerException if element provided is null.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+
+        try {
+            while (queue.size() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to remove the head of the queue, waiting for an element to become available if queue is empty.
+     *
+     * @return removed head element of queue.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to remove the head of the queue.
+     *
+     * @return removed head element of queue or return null if queue is empty.
+     */
+    public E poll() {
+        lock.lock();
+
+        try {
+            return queue.isEmpty() ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to remove the head of the queue, waiting up to given time for an element to become available.
+     *
+     * @param timeout maximum time to wait.
+     * @param unit    time unit of the timeout.
+     * @return removed head element of queue or null if time elapsed before an element was available.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+
+        try {
+            while (queue.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to retrieve the head element of the queue without removing the head.
+     *
+     * @return head element of the queue or return null if queue is empty.
+     */
+    public E peek() {
+        lock.lock();
+
+        try {
+            return queue.peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to remove all available elements from the queue and add them to the given collection.
+     *
+     * @param collection collection to transfer elements into.
+     * @return number of elements transferred.
+     * @throws NullPointerException if collection is null.
+     */
+    public int drainTo(Collection<? super E> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Method to remove at most the given number of elements from the queue and add them to the given collection.
+     * <p>All elements are transferred while holding the lock once, and waiting producers are signalled once.</p>
+     *
+     * @param collection  collection to transfer elements into.
+     * @param maxElements maximum number of elements to transfer.
+     * @return number of elements transferred.
+     * @throws NullPointerException if collection is null.
+     */
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        if (collection == null) {
+            throw new NullPointerException("Collection can't be null");
+        }
+
+        if (maxElements <= 0) {
+            return 0;
+        }
+
+        lock.lock();
+
+        try {
+            int count = Math.min(maxElements, queue.size());
+
+            for (int i = 0; i < count; i++) {
+                collection.add(queue.poll());
+            }
+
+            if (count > 0) {
+                notFull.signalAll();
+            }
+
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to remove all elements from the queue.
+     */
+    public void clear() {
+        lock.lock();
+
+        try {
+            while (!queue.isEmpty()) {
+                queue.poll();
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to retrieve the current total number of elements in queue.
+     *
+     * @return current size of queue.
+     */
+    public int size() {
+        lock.lock();
+
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to retrieve the maximum number of elements the queue can hold.
+     *
+     * @return capacity of queue.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+
+    /**
+     * Method to retrieve the number of elements which can be inserted without blocking.
+     *
+     * @return remaining capacity of queue.
+     */
+    public int remainingCapacity() {
+        lock.lock();
+
+        try {
+            return capacity - queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to determine if queue is empty or not.
+     *
+     * @return true if queue is empty or false if queue is not empty.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+
+    /**
+     * Method to return the string representation of queue.
+     *
+     * @return String representation of this queue.
+     * @see Queue#toString()
+     */
+    @Override
+    public String toString() {
+        lock.lock();
+
+        try {
+            return queue.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Method to get the iterator object for this queue.
+     * <p>Iterator works on a snapshot taken at the time of this call and never reflects later modifications.</p>
+     *
+     * @return iterator object for this queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Queue<E> snapshot;
+        lock.lock();
+
+        try {
+            snapshot = new Queue<>(Math.max(queue.size(), 1));
+            for (E element : queue) {
+                snapshot.add(element);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return snapshot.iterator();
+    }
+
+
+    /**
+     * Private method to insert element and signal a waiting consumer (lock must be held).
+     */
+    private void enqueue(E element) {
+        queue.add(element);
+        notEmpty.signal();
+    }
+
+
+    /**
+     * Private method to remove head element and signal a waiting producer (lock must be held).
+     */
+    private E dequeue() {
+        E element = queue.poll();
+        notFull.signal();
+        return element;
+    }
+
+
+    /**
+     * Private method to reject null elements.
+     */
+    private static void requireNonNull(Object element) {
+        if (element == null) {
+            throw new NullPointerException("null insertion is not allowed");
+        }
+    }
+}
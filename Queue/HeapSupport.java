@@ -0,0 +1,70 @@
+package com.akgarg.datastructures;
+
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+/**
+ * Comparison, heap construction and capacity defaults shared by the array
+ * backed heaps ({@link PriorityQueue} and {@link MinMaxPriorityQueue}).
+ *
+ * @author Akhilesh Garg
+ */
+final class HeapSupport {
+
+    /**
+     * Default initial capacity of the queue array
+     */
+    static final int DEFAULT_INITIAL_CAPACITY = 11;
+
+    /**
+     * Default capacity policy: doubles the queue below 64 slots, grows it by 50% from there on.
+     */
+    static final CapacityPolicy DEFAULT_CAPACITY_POLICY = CapacityPolicy.DOUBLING_THEN_ONE_AND_HALF;
+
+    private HeapSupport() {
+    }
+
+    /**
+     * Method to compare two elements
+     *
+     * @param comparator comparator to use (null for natural ordering)
+     * @param first      element with which other element is compared
+     * @param second     second element which is compared with first element
+     * @return negative, zero or positive value according to comparator (if
+     *         available) or element's comparable method
+     * @see Comparable
+     * @see Comparator
+     */
+    static <E extends Comparable<E>> int compare(Comparator<? super E> comparator, E first, E second) {
+        return comparator == null ? first.compareTo(second) : comparator.compare(first, second);
+    }
+
+    /**
+     * Method to compare the elements of two positions of a queue array
+     *
+     * @param comparator comparator to use (null for natural ordering)
+     * @param queue      queue array holding elements of type E
+     * @param first      position of first element
+     * @param second     position of second element
+     * @return negative, zero or positive value if first element is less than,
+     *         equal to or greater than second element
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Comparable<E>> int compareAt(Comparator<? super E> comparator, Object[] queue, int first, int second) {
+        return compare(comparator, (E) queue[first], (E) queue[second]);
+    }
+
+    /**
+     * Restores heap order of the first size positions of a queue array by
+     * sifting down every parent position from the last parent to the root
+     * (Floyd's method, O(n))
+     *
+     * @param size     number of elements in the queue array
+     * @param siftDown sift down operation of the heap
+     */
+    static void heapify(int size, IntConsumer siftDown) {
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown.accept(i);
+        }
+    }
+}
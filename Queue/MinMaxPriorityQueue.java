@@ -0,0 +1,558 @@
+package com.akgarg.datastructures;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Generic double ended priority queue implemented as a min-max heap.
+ * <p>
+ * Elements are ordered like in {@link PriorityQueue}: by their natural ordering or by the comparator
+ * provided at construction time. Both the least and the greatest element can be retrieved in O(1)
+ * ({@link #peekMin}, {@link #peekMax}) and removed in O(log n) ({@link #pollMin}, {@link #pollMax}).
+ * </p>
+ * <p>
+ * Elements are stored in a single array in binary tree structure where nodes of even levels (root is
+ * level 0) are less than or equal to all of their descendants and nodes of odd levels are greater than
+ * or equal to all of their descendants.
+ * </p>
+ * <p>
+ * Queue can be bounded with a maximum size. When a bounded queue is full, inserting a new element
+ * evicts the element of the end selected by {@link Eviction} (or rejects the new element if it would
+ * be evicted itself).
+ * </p>
+ * <p>
+ * This implementation is not synchronized.
+ * </p>
+ *
+ * @param <E> the type of elements to store in MinMaxPriorityQueue (class type only)
+ * @author Akhilesh Garg
+ */
+public class MinMaxPriorityQueue<E extends Comparable<E>> implements Iterable<E> {
+
+    /**
+     * End of the queue from which elements are evicted when a bounded queue is full
+     */
+    public enum Eviction {
+        /**
+         * Evict the least element (queue retains the greatest elements)
+         */
+        MIN,
+
+        /**
+         * Evict the greatest element (queue retains the least elements)
+         */
+        MAX
+    }
+
+    /**
+     * Comparator to use with the MinMaxPriorityQueue to order elements
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Maximum number of elements this queue can hold
+     */
+    private final int maximumSize;
+
+    /**
+     * End of the queue from which elements are evicted when queue is full
+     */
+    private final Eviction eviction;
+
+    /**
+     * Object array to store the elements in min-max heap order
+     */
+    private Object[] queue;
+
+    /**
+     * Current size of the MinMaxPriorityQueue
+     */
+    private int size;
+
+    /**
+     * Constructor to create an unbounded MinMaxPriorityQueue which orders elements
+     * by their natural ordering.
+     */
+    public MinMaxPriorityQueue() {
+        this((Comparator<? super E>) null);
+    }
+
+    /**
+     * Constructor to create an unbounded MinMaxPriorityQueue which orders elements
+     * with the specified comparator.
+     *
+     * @param comparator comparator to use for ordering of elements (null for
+     *                   natural ordering).
+     * @see Comparator
+     */
+    public MinMaxPriorityQueue(Comparator<? super E> comparator) {
+        this(Integer.MAX_VALUE, comparator, Eviction.MAX);
+    }
+
+    /**
+     * Constructor to create a bounded MinMaxPriorityQueue
+     *
+     * @param maximumSize maximum number of elements of the queue
+     * @param comparator  comparator to use for ordering of elements (null for
+     *                    natural ordering).
+     * @param eviction    end of the queue from which elements are evicted when
+     *                    queue is full
+     * @throws IllegalArgumentException if maximum size is less than 1
+     * @throws NullPointerException     if eviction is null
+     * @see Comparator
+     */
+    public MinMaxPriorityQueue(int maximumSize, Comparator<? super E> comparator, Eviction eviction) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Invalid maximum size " + maximumSize);
+        }
+
+        if (eviction == null) {
+            throw new NullPointerException("Eviction can't be null");
+        }
+
+        this.comparator = comparator;
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.queue = new Object[Math.min(maximumSize, HeapSupport.DEFAULT_INITIAL_CAPACITY)];
+        this.size = 0;
+    }
+
+    /**
+     * Constructor to create an unbounded MinMaxPriorityQueue containing the
+     * specified elements. The heap is built in linear time (bottom-up heapify).
+     *
+     * @param elements   elements to insert in the queue
+     * @param comparator comparator to use for ordering of elements (null for
+     *                   natural ordering).
+     * @throws NullPointerException if elements or any of the element is null
+     * @see Comparator
+     */
+    public MinMaxPriorityQueue(Iterable<? extends E> elements, Comparator<? super E> comparator) {
+        this(comparator);
+
+        for (E e : elements) {
+            if (e == null) {
+                throw new NullPointerException("Null insertion is not allowed");
+            }
+
+            if (this.size >= queue.length) {
+                grow(this.size + 1);
+            }
+
+            queue[size++] = e;
+        }
+
+        heapify();
+    }
+
+    /**
+     * Inserts specified element in this MinMaxPriorityQueue
+     *
+     * @param e element to be inserted
+     * @return true if element is inserted or false if queue is full and element
+     *         would be evicted itself
+     * @throws NullPointerException if specified element is null
+     * @see MinMaxPriorityQueue#offer(Comparable)
+     */
+    public boolean add(E e) {
+        return this.offer(e);
+    }
+
+    /**
+     * Inserts specified element in this MinMaxPriorityQueue. If queue is full then
+     * the element of the eviction end is removed first.
+     *
+     * @param e element to be inserted
+     * @return true if element is inserted or false if queue is full and element
+     *         would be evicted itself
+     * @throws NullPointerException if specified element is null
+     */
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException("Null insertion is not allowed");
+        }
+
+        if (this.size == maximumSize) {
+            if (eviction == Eviction.MAX) {
+                if (HeapSupport.compare(comparator, e, peekMax()) >= 0) {
+                    return false;
+                }
+                removeAt(maxIndex());
+            } else {
+                if (HeapSupport.compare(comparator, e, peekMin()) <= 0) {
+                    return false;
+                }
+                removeAt(0);
+            }
+        }
+
+        if (this.size >= queue.length) {
+            grow(this.size + 1);
+        }
+
+        queue[size] = e;
+        bubbleUp(size);
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the least element without removing it from MinMaxPriorityQueue
+     *
+     * @return least element or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peekMin() {
+        return this.isEmpty() ? null : (E) queue[0];
+    }
+
+    /**
+     * Returns the greatest element without removing it from MinMaxPriorityQueue
+     *
+     * @return greatest element or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peekMax() {
+        return this.isEmpty() ? null : (E) queue[maxIndex()];
+    }
+
+    /**
+     * Returns the least element after removing it from MinMaxPriorityQueue
+     *
+     * @return least element or null if queue is empty
+     */
+    public E pollMin() {
+        return this.isEmpty() ? null : removeAt(0);
+    }
+
+    /**
+     * Returns the greatest element after removing it from MinMaxPriorityQueue
+     *
+     * @return greatest element or null if queue is empty
+     */
+    public E pollMax() {
+        return this.isEmpty() ? null : removeAt(maxIndex());
+    }
+
+    /**
+     * Returns the least element without removing it from MinMaxPriorityQueue
+     *
+     * @return least element or null if queue is empty
+     * @see MinMaxPriorityQueue#peekMin()
+     */
+    public E peek() {
+        return peekMin();
+    }
+
+    /**
+     * Returns the least element after removing it from MinMaxPriorityQueue
+     *
+     * @return least element or null if queue is empty
+     * @see MinMaxPriorityQueue#pollMin()
+     */
+    public E poll() {
+        return pollMin();
+    }
+
+    /**
+     * Returns the least element after removing it from MinMaxPriorityQueue
+     *
+     * @return least element
+     * @throws NoSuchElementException if queue is empty
+     */
+    public E remove() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+
+        return removeAt(0);
+    }
+
+    /**
+     * Remove all elements from the MinMaxPriorityQueue and makes it empty
+     */
+    public void clear() {
+        queue = new Object[Math.min(maximumSize, HeapSupport.DEFAULT_INITIAL_CAPACITY)];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the comparator used to order elements in this MinMaxPriorityQueue
+     *
+     * @return Comparator used to order elements or null if no comparator is used.
+     */
+    public Comparator<? super E> comparator() {
+        return this.comparator;
+    }
+
+    /**
+     * Returns the maximum number of elements this MinMaxPriorityQueue can hold
+     *
+     * @return maximum size of queue (Integer.MAX_VALUE if queue is unbounded)
+     */
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns the current size of MinMaxPriorityQueue
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if this MinMaxPriorityQueue is empty or not
+     *
+     * @return true if queue is empty or false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the index of greatest element (root if queue has one element, else
+     * greater child of root)
+     */
+    private int maxIndex() {
+        if (size <= 2) {
+            return size - 1;
+        }
+
+        return HeapSupport.<E>compareAt(comparator, queue, 1, 2) >= 0 ? 1 : 2;
+    }
+
+    /**
+     * Removes the element of specified index and restores heap order
+     *
+     * @param index index of element to remove (root or one of its children)
+     * @return removed element
+     */
+    @SuppressWarnings("unchecked")
+    private E removeAt(int index) {
+        E removedElement = (E) queue[index];
+        size--;
+        queue[index] = queue[size];
+        queue[size] = null;
+
+        if (index < size) {
+            trickleDown(index);
+        }
+
+        return removedElement;
+    }
+
+    /**
+     * Restores heap order of whole queue array by trickling down every parent
+     * position from the last parent to the root (O(n))
+     */
+    private void heapify() {
+        HeapSupport.heapify(size, this::trickleDown);
+    }
+
+    /**
+     * Moves the element of specified position up towards the root until heap
+     * order is restored
+     *
+     * @param position position of inserted element
+     */
+    private void bubbleUp(int position) {
+        if (position == 0) {
+            return;
+        }
+
+        int parentPosition = (position - 1) >> 1;
+        boolean minLevel = isMinLevel(position);
+
+        // element belongs to the opposite kind of level if it is out of order with its parent
+        if (order(position, parentPosition, minLevel) > 0) {
+            swap(position, parentPosition);
+            bubbleUpLevels(parentPosition, !minLevel);
+        } else {
+            bubbleUpLevels(position, minLevel);
+        }
+    }
+
+    /**
+     * Moves the element of specified position up through its grandparents (same
+     * kind of level) while it is out of order with them
+     */
+    private void bubbleUpLevels(int position, boolean minLevel) {
+        while (position > 2) {
+            int grandParentPosition = (((position - 1) >> 1) - 1) >> 1;
+
+            if (order(position, grandParentPosition, minLevel) < 0) {
+                swap(position, grandParentPosition);
+                position = grandParentPosition;
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Moves the element of specified position down towards the leaves until heap
+     * order is restored
+     *
+     * @param position position of element to move
+     */
+    private void trickleDown(int position) {
+        boolean minLevel = isMinLevel(position);
+
+        while ((position << 1) + 1 < size) {
+            int next = extremeDescendant(position, minLevel);
+
+            if (order(next, position, minLevel) >= 0) {
+                break;
+            }
+
+            swap(next, position);
+
+            // next is a child: children are on the opposite kind of level, so order is restored
+            if (next <= (position << 1) + 2) {
+                break;
+            }
+
+            int parentPosition = (next - 1) >> 1;
+
+            if (order(next, parentPosition, minLevel) > 0) {
+                swap(next, parentPosition);
+            }
+
+            position = next;
+        }
+    }
+
+    /**
+     * Returns the position of the least (min level) or greatest (max level)
+     * element among children and grandchildren of the specified position
+     */
+    private int extremeDescendant(int position, boolean minLevel) {
+        int firstChild = (position << 1) + 1;
+        int extreme = firstChild;
+
+        if (firstChild + 1 < size && order(firstChild + 1, extreme, minLevel) < 0) {
+            extreme = firstChild + 1;
+        }
+
+        int firstGrandChild = (firstChild << 1) + 1;
+        int lastGrandChild = Math.min(firstGrandChild + 4, size);
+
+        for (int i = firstGrandChild; i < lastGrandChild; i++) {
+            if (order(i, extreme, minLevel) < 0) {
+                extreme = i;
+            }
+        }
+
+        return extreme;
+    }
+
+    /**
+     * Compares elements of two positions in the order of the specified kind of
+     * level (ascending for min levels, descending for max levels)
+     */
+    private int order(int first, int second, boolean minLevel) {
+        int result = HeapSupport.<E>compareAt(comparator, queue, first, second);
+        return minLevel ? result : -result;
+    }
+
+    /**
+     * Checks if specified position is on an even (min) level of the heap
+     */
+    private static boolean isMinLevel(int position) {
+        return (Integer.numberOfLeadingZeros(position + 1) & 1) == 1;
+    }
+
+    /**
+     * Swaps the elements of specified positions
+     */
+    private void swap(int first, int second) {
+        Object element = queue[first];
+        queue[first] = queue[second];
+        queue[second] = element;
+    }
+
+    /**
+     * Grows the queue array so that it can hold at least the specified number of
+     * elements
+     *
+     * @param minCapacity minimum capacity required in the new queue array
+     * @throws OutOfMemoryError if JVM runs out of memory for this queue
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = Math.min(HeapSupport.DEFAULT_CAPACITY_POLICY.grow(queue.length, minCapacity), maximumSize);
+        Object[] newQueue = new Object[newCapacity];
+        System.arraycopy(queue, 0, newQueue, 0, size);
+        queue = newQueue;
+    }
+
+    /**
+     * Returns the iterator for this MinMaxPriorityQueue. Iterator doesn't
+     * guarantee any particular order of elements.
+     *
+     * @return iterator object for this MinMaxPriorityQueue
+     * @see Iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new MinMaxPriorityQueueIterator();
+    }
+
+    /**
+     * Returns the string representation of MinMaxPriorityQueue.
+     * <p>
+     * String implementation doesn't guarantee the correct order of elements in this
+     * queue.
+     * </p>
+     * <p>
+     * String returned is enclosed in square brackets ("[]").
+     * Adjacent elements are separated by comma (", ").
+     * If queue is empty then only double brackets will be returned.
+     * </p>
+     *
+     * @return String representation of MinMaxPriorityQueue
+     */
+    @Override
+    public String toString() {
+        if (this.isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (E element : this) {
+            builder.append(element).append(", ");
+        }
+
+        builder.deleteCharAt(builder.length() - 1);
+        builder.deleteCharAt(builder.length() - 1);
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Class used to implement the iterator for this MinMaxPriorityQueue.
+     *
+     * @see Iterator
+     */
+    private final class MinMaxPriorityQueueIterator implements Iterator<E> {
+        private int iteratorIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return this.iteratorIndex != size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (this.iteratorIndex >= size) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) queue[this.iteratorIndex++];
+        }
+    }
+}
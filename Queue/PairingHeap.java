@@ -0,0 +1,589 @@
+package com.akgarg.datastructures;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Generic mergeable priority queue implemented as a pairing heap.
+ * <p>
+ * Elements are ordered like in {@link PriorityQueue}: by their natural ordering or by the comparator
+ * provided at construction time, and the head of the queue is the least element.
+ * </p>
+ * <p>
+ * Unlike the array based {@link PriorityQueue}, this heap is built from linked nodes, so two heaps can
+ * be merged with {@link #meld} in constant time. {@link #insert} returns a {@link Handle} of the element
+ * which can be used to {@link #remove(Handle) remove} it or to {@link #decreaseKey decrease its key}
+ * without searching the heap.
+ * </p>
+ * <p>
+ * Complexity: {@link #offer}, {@link #peek}, {@link #meld} take O(1), {@link #poll} and {@link #remove(Handle)}
+ * take O(log n) amortized and {@link #decreaseKey} takes o(log n) amortized.
+ * </p>
+ * <p>
+ * This implementation is not synchronized.
+ * </p>
+ *
+ * @param <E> the type of elements to store in PairingHeap (class type only)
+ * @author Akhilesh Garg
+ */
+public class PairingHeap<E extends Comparable<E>> implements Iterable<E> {
+
+    /**
+     * Comparator to use with the PairingHeap to order elements
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Root node of the heap (holds the least element)
+     */
+    private Handle<E> root;
+
+    /**
+     * Current size of the PairingHeap
+     */
+    private int size;
+
+    /**
+     * Owner token stamped on every handle inserted in this heap. Replaced by a
+     * fresh token on {@link #clear()}, and forwarded to the token of the
+     * receiving heap on {@link #meld}.
+     */
+    private Owner owner = new Owner();
+
+    /**
+     * Constructor to create an empty PairingHeap which orders elements by their
+     * natural ordering.
+     */
+    public PairingHeap() {
+        this(null);
+    }
+
+    /**
+     * Constructor to create an empty PairingHeap which orders elements with the
+     * specified comparator.
+     *
+     * @param comparator comparator to use for ordering of elements (null for
+     *                   natural ordering).
+     * @see Comparator
+     */
+    public PairingHeap(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.root = null;
+        this.size = 0;
+    }
+
+    /**
+     * Inserts specified element in this PairingHeap
+     *
+     * @param e element to be inserted
+     * @return true
+     * @throws NullPointerException if specified element is null
+     * @see PairingHeap#offer(Comparable)
+     */
+    public boolean add(E e) {
+        return this.offer(e);
+    }
+
+    /**
+     * Inserts specified element in this PairingHeap
+     *
+     * @param e element to be inserted
+     * @return true
+     * @throws NullPointerException if specified element is null
+     */
+    public boolean offer(E e) {
+        insert(e);
+        return true;
+    }
+
+    /**
+     * Inserts specified element in this PairingHeap and returns its handle
+     *
+     * @param e element to be inserted
+     * @return handle of the inserted element
+     * @throws NullPointerException if specified element is null
+     */
+    public Handle<E> insert(E e) {
+        if (e == null) {
+            throw new NullPointerException("Null insertion is not allowed");
+        }
+
+        Handle<E> node = new Handle<>(e, owner);
+        root = root == null ? node : link(root, node);
+        size++;
+        return node;
+    }
+
+    /**
+     * Returns the element present at the head without removing it from
+     * PairingHeap
+     *
+     * @return element at the head of PairingHeap or null if PairingHeap is empty
+     */
+    public E peek() {
+        return root == null ? null : root.element;
+    }
+
+    /**
+     * Returns the element present at the head without removing it from
+     * PairingHeap
+     *
+     * @return element present at the head
+     * @throws NoSuchElementException if PairingHeap is empty
+     */
+    public E element() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+
+        return root.element;
+    }
+
+    /**
+     * Returns the element present at the head after removing it from PairingHeap
+     *
+     * @return element present at the head or null is PairingHeap is empty
+     */
+    public E poll() {
+        if (root == null) {
+            return null;
+        }
+
+        Handle<E> oldRoot = root;
+        root = mergePairs(oldRoot.child);
+        size--;
+        return detach(oldRoot);
+    }
+
+    /**
+     * Returns the element present at the head after removing it from PairingHeap
+     *
+     * @return element present at the head
+     * @throws NoSuchElementException if PairingHeap is empty
+     */
+    public E remove() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+
+        return poll();
+    }
+
+    /**
+     * Removes the element of specified handle from this PairingHeap
+     *
+     * @param handle handle returned by {@link #insert} of this heap (or of a heap
+     *               melded into this heap)
+     * @return element removed from PairingHeap
+     * @throws NullPointerException     if handle is null
+     * @throws IllegalArgumentException if element of handle was already removed
+     *                                  or handle belongs to another heap
+     */
+    public E remove(Handle<E> handle) {
+        checkHandle(handle);
+
+        if (handle == root) {
+            return poll();
+        }
+
+        cut(handle);
+        Handle<E> subtree = mergePairs(handle.child);
+
+        if (subtree != null) {
+            root = link(root, subtree);
+        }
+
+        size--;
+        return detach(handle);
+    }
+
+    /**
+     * Replaces the element of specified handle with a new element which is not
+     * greater than the current element and restores heap order
+     *
+     * @param handle   handle returned by {@link #insert} of this heap (or of a heap
+     *                 melded into this heap)
+     * @param newValue new element (must not be greater than current element)
+     * @throws NullPointerException     if handle or new element is null
+     * @throws IllegalArgumentException if element of handle was already removed,
+     *                                  handle belongs to another heap or new
+     *                                  element is greater than current element
+     */
+    public void decreaseKey(Handle<E> handle, E newValue) {
+        checkHandle(handle);
+
+        if (newValue == null) {
+            throw new NullPointerException("Null insertion is not allowed");
+        }
+
+        if (compare(newValue, handle.element) > 0) {
+            throw new IllegalArgumentException("New element is greater than current element");
+        }
+
+        handle.element = newValue;
+
+        if (handle != root) {
+            cut(handle);
+            root = link(root, handle);
+        }
+    }
+
+    /**
+     * Moves all elements of the specified heap into this PairingHeap in constant
+     * time. The specified heap becomes empty and handles of its elements now refer
+     * to elements of this heap.
+     *
+     * @param other heap to merge into this heap
+     * @throws NullPointerException     if other heap is null
+     * @throws IllegalArgumentException if other heap is this heap or orders
+     *                                  elements with a different comparator
+     */
+    public void meld(PairingHeap<E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Heap can't be melded with itself");
+        }
+
+        if (!(this.comparator == null ? other.comparator == null : this.comparator.equals(other.comparator))) {
+            throw new IllegalArgumentException("Heaps with different comparators can't be melded");
+        }
+
+        if (other.root == null) {
+            return;
+        }
+
+        root = root == null ? other.root : link(root, other.root);
+        size += other.size;
+        other.root = null;
+        other.size = 0;
+
+        // handles of other heap now belong to this heap, other heap starts a fresh token
+        other.owner.forward = this.owner;
+        other.owner = new Owner();
+    }
+
+    /**
+     * Remove all elements from the PairingHeap and makes this PairingHeap empty
+     * in constant time. Handles of removed elements become invalid (their owner
+     * token is retired).
+     */
+    public void clear() {
+        root = null;
+        this.size = 0;
+        owner.cleared = true;
+        owner = new Owner();
+    }
+
+    /**
+     * Returns the comparator used to order elements in this PairingHeap
+     *
+     * @return Comparator used to order elements in PairingHeap or null if no
+     *         comparator is used.
+     */
+    public Comparator<? super E> comparator() {
+        return this.comparator;
+    }
+
+    /**
+     * Returns the current size of PairingHeap
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if this PairingHeap is empty or not
+     *
+     * @return true if PairingHeap is empty or false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Links two root nodes and returns the new root (the node with lesser element,
+     * or the first node if both are equal). The other node becomes the leftmost
+     * child of the new root.
+     */
+    private Handle<E> link(Handle<E> first, Handle<E> second) {
+        if (compare(second.element, first.element) < 0) {
+            Handle<E> temp = first;
+            first = second;
+            second = temp;
+        }
+
+        second.previous = first;
+        second.sibling = first.child;
+
+        if (first.child != null) {
+            first.child.previous = second;
+        }
+
+        first.child = second;
+        first.previous = null;
+        first.sibling = null;
+        return first;
+    }
+
+    /**
+     * Merges the specified list of sibling nodes in a single tree using the
+     * two-pass pairing strategy and returns the root of the tree.
+     */
+    private Handle<E> mergePairs(Handle<E> first) {
+        if (first == null) {
+            return null;
+        }
+
+        // first pass: link siblings in pairs from left to right (pairs are chained in reverse order)
+        Handle<E> pairs = null;
+
+        while (first != null) {
+            Handle<E> second = first.sibling;
+            Handle<E> next = second == null ? null : second.sibling;
+            first.previous = null;
+            first.sibling = null;
+
+            Handle<E> merged = first;
+
+            if (second != null) {
+                second.previous = null;
+                second.sibling = null;
+                merged = link(first, second);
+            }
+
+            merged.sibling = pairs;
+            pairs = merged;
+            first = next;
+        }
+
+        // second pass: link pairs from right to left
+        Handle<E> result = pairs;
+        pairs = pairs.sibling;
+        result.sibling = null;
+
+        while (pairs != null) {
+            Handle<E> next = pairs.sibling;
+            pairs.sibling = null;
+            result = link(result, pairs);
+            pairs = next;
+        }
+
+        return result;
+    }
+
+    /**
+     * Detaches the specified non-root node (with its subtree) from its parent
+     */
+    private void cut(Handle<E> node) {
+        if (node.previous.child == node) {
+            node.previous.child = node.sibling;
+        } else {
+            node.previous.sibling = node.sibling;
+        }
+
+        if (node.sibling != null) {
+            node.sibling.previous = node.previous;
+        }
+
+        node.previous = null;
+        node.sibling = null;
+    }
+
+    /**
+     * Marks the specified node as removed and returns its element
+     */
+    private E detach(Handle<E> node) {
+        E element = node.element;
+        node.removed = true;
+        node.child = null;
+        node.previous = null;
+        node.sibling = null;
+        return element;
+    }
+
+    /**
+     * Validates the specified handle: it must not be removed and must belong to
+     * this heap (its owner token resolves to the current token of this heap)
+     */
+    private void checkHandle(Handle<E> handle) {
+        if (handle == null) {
+            throw new NullPointerException("Handle can't be null");
+        }
+
+        if (handle.isRemoved()) {
+            throw new IllegalArgumentException("Element of handle is already removed");
+        }
+
+        if (handle.resolveOwner() != this.owner) {
+            throw new IllegalArgumentException("Handle doesn't belong to this heap");
+        }
+    }
+
+    /**
+     * Method to compare two elements
+     *
+     * @param first  element with which other element is compared
+     * @param second second element which is compared with first element
+     * @return -1, 0 or 1 according to comparator (if available) or element's
+     *         comparable method
+     * @see Comparable
+     * @see Comparator
+     */
+    private int compare(E first, E second) {
+        return this.comparator == null ? first.compareTo(second) : comparator.compare(first, second);
+    }
+
+    /**
+     * Returns the iterator for this PairingHeap. Iterator doesn't guarantee any
+     * particular order of elements.
+     *
+     * @return iterator object for this PairingHeap
+     * @see Iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new PairingHeapIterator();
+    }
+
+    /**
+     * Returns the string representation of PairingHeap.
+     * <p>
+     * String implementation doesn't guarantee the correct order of elements in this
+     * heap.
+     * </p>
+     * <p>
+     * String returned is enclosed in square brackets ("[]").
+     * Adjacent elements are separated by comma (", ").
+     * If heap is empty then only double brackets will be returned.
+     * </p>
+     *
+     * @return String representation of PairingHeap
+     */
+    @Override
+    public String toString() {
+        if (this.isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (E element : this) {
+            builder.append(element).append(", ");
+        }
+
+        builder.deleteCharAt(builder.length() - 1);
+        builder.deleteCharAt(builder.length() - 1);
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Handle of an element stored in a PairingHeap (node of the heap).
+     * <p>
+     * Each node points to its leftmost child, to its next sibling and to its
+     * previous node (previous sibling, or parent for the leftmost child).
+     * </p>
+     *
+     * @param <E> the type of element
+     */
+    public static final class Handle<E> {
+        private E element;
+        private Handle<E> child;
+        private Handle<E> sibling;
+        private Handle<E> previous;
+        private boolean removed;
+        private Owner owner;
+
+        private Handle(E element, Owner owner) {
+            this.element = element;
+            this.owner = owner;
+        }
+
+        /**
+         * Returns the element of this handle
+         */
+        public E element() {
+            return this.element;
+        }
+
+        /**
+         * Returns true if element of this handle was removed from its heap (or
+         * the heap was cleared)
+         */
+        public boolean isRemoved() {
+            return this.removed || resolveOwner().cleared;
+        }
+
+        /**
+         * Follows the forwarding of the owner token (left by melds) to the token
+         * of the heap currently holding this handle, compressing the path
+         */
+        private Owner resolveOwner() {
+            Owner current = this.owner;
+
+            while (current.forward != null) {
+                current = current.forward;
+            }
+
+            for (Owner token = this.owner; token != current; ) {
+                Owner next = token.forward;
+                token.forward = current;
+                token = next;
+            }
+
+            this.owner = current;
+            return current;
+        }
+    }
+
+    /**
+     * Token identifying the heap which owns a handle. A token is retired when its
+     * heap is cleared, and forwarded to another token when its heap is melded
+     * into another heap.
+     */
+    private static final class Owner {
+        private Owner forward;
+        private boolean cleared;
+    }
+
+    /**
+     * Class used to implement the iterator for this PairingHeap (pre-order walk
+     * which uses sibling links and a stack of pending siblings).
+     *
+     * @see Iterator
+     */
+    private final class PairingHeapIterator implements Iterator<E> {
+        private final Stack<Handle<E>> pending = new Stack<>();
+
+        private PairingHeapIterator() {
+            if (root != null) {
+                pending.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            Handle<E> node = pending.pop();
+
+            if (node.sibling != null) {
+                pending.push(node.sibling);
+            }
+
+            if (node.child != null) {
+                pending.push(node.child);
+            }
+
+            return node.element;
+        }
+    }
+}
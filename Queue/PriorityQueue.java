@@ -1,6 +1,9 @@
 package com.akgarg.datastructures;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Generic PriorityQueue implementation with basic methods
@@ -16,8 +19,13 @@ import java.util.*;
 @SuppressWarnings("unused")
 public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
 
-    private static final int DEFAULT_INITIAL_CAPACITY = 11;
-    private static final int MAX_QUEUE_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int MAX_QUEUE_CAPACITY = CapacityPolicy.MAX_ARRAY_CAPACITY;
+
+    /**
+     * Metrics shared by all PriorityQueues (recorded only if enabled).
+     * Sift depth is recorded as element shifts (one per swap).
+     */
+    private static final ContainerMetrics METRICS = ContainerMetrics.register("PriorityQueue");
 
     /**
      * Comparator to use with the PriorityQueue to order elements
@@ -38,12 +46,45 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
      */
     private int size;
 
+    /**
+     * Capacity below which this PriorityQueue is never shrunk automatically
+     */
+    private final int initialCapacity;
+
+    /**
+     * Policy used to grow and shrink the queue array
+     */
+    private final CapacityPolicy capacityPolicy;
+
+    /**
+     * Insertion sequence of the element at the same index in queue array (null if
+     * queue is not stable). Used to break ties between equal elements in FIFO
+     * order without wrapping the elements.
+     */
+    private long[] sequence;
+
+    /**
+     * Sequence number assigned to the next inserted element (stable queue only)
+     */
+    private long nextSequence;
+
+    /**
+     * Policy deciding what clear() does with the queue array
+     */
+    private ClearPolicy clearPolicy = ClearPolicy.RELEASE;
+
+    /**
+     * End of slots which may still refer to cleared elements (SCRATCH clear
+     * policy only)
+     */
+    private int staleEnd;
+
     /**
      * Constructor to create a PriorityQueue with all values set to their initial
      * values.
      */
     public PriorityQueue() {
-        this(DEFAULT_INITIAL_CAPACITY, null);
+        this(HeapSupport.DEFAULT_INITIAL_CAPACITY, null);
     }
 
     /**
@@ -65,7 +106,38 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
      * @see Comparator
      */
     public PriorityQueue(Comparator<? super E> comparator) {
-        this(DEFAULT_INITIAL_CAPACITY, comparator);
+        this(HeapSupport.DEFAULT_INITIAL_CAPACITY, comparator);
+    }
+
+    /**
+     * Constructor to create a PriorityQueue containing the specified elements.
+     * <p>
+     * Elements are appended in the queue array and the heap is then built in
+     * linear time (bottom-up heapify) instead of sifting up every element.
+     * </p>
+     *
+     * @param elements   elements to insert in the PriorityQueue
+     * @param comparator comparator to use for ordering of elements (null for
+     *                   natural ordering).
+     * @throws NullPointerException if elements or any of the element is null
+     * @see Comparator
+     */
+    public PriorityQueue(Iterable<? extends E> elements, Comparator<? super E> comparator) {
+        this(HeapSupport.DEFAULT_INITIAL_CAPACITY, comparator);
+
+        for (E e : elements) {
+            if (e == null) {
+                throw new NullPointerException("Null insertion is not allowed");
+            }
+
+            if (this.size >= queue.length) {
+                growPriorityQueue(this.size + 1);
+            }
+
+            queue[size++] = e;
+        }
+
+        heapify();
     }
 
     /**
@@ -77,13 +149,76 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
      * @see Comparator
      */
     public PriorityQueue(int initialCapacity, Comparator<? super E> comparator) {
+        this(initialCapacity, comparator, HeapSupport.DEFAULT_CAPACITY_POLICY);
+    }
+
+    /**
+     * Constructor to set the initial capacity, comparator & capacity policy of the
+     * PriorityQueue
+     *
+     * @param initialCapacity Initial capacity of the PriorityQueue
+     * @param comparator      Comparator to use for ordering of elements.
+     * @param capacityPolicy  Policy used to grow and shrink the PriorityQueue
+     * @throws IllegalArgumentException if initialCapacity is invalid
+     * @throws NullPointerException     if capacityPolicy is null
+     * @see Comparator
+     * @see CapacityPolicy
+     */
+    public PriorityQueue(int initialCapacity, Comparator<? super E> comparator, CapacityPolicy capacityPolicy) {
+        this(initialCapacity, comparator, capacityPolicy, false);
+    }
+
+    /**
+     * Constructor to set the initial capacity, comparator & ordering mode of the
+     * PriorityQueue
+     *
+     * @param initialCapacity Initial capacity of the PriorityQueue
+     * @param comparator      Comparator to use for ordering of elements.
+     * @param stable          true if equal elements must be removed in insertion
+     *                        (FIFO) order
+     * @throws IllegalArgumentException if initialCapacity is invalid
+     * @see Comparator
+     */
+    public PriorityQueue(int initialCapacity, Comparator<? super E> comparator, boolean stable) {
+        this(initialCapacity, comparator, HeapSupport.DEFAULT_CAPACITY_POLICY, stable);
+    }
+
+    /**
+     * Constructor to set the initial capacity, comparator, capacity policy &
+     * ordering mode of the PriorityQueue.
+     * <p>
+     * A stable PriorityQueue stores the insertion sequence of every element in a
+     * parallel long array and uses it as tie-breaker when two elements compare
+     * equal, so equal elements are removed in insertion (FIFO) order. It costs 8
+     * bytes per slot of capacity but no allocation per element.
+     * </p>
+     *
+     * @param initialCapacity Initial capacity of the PriorityQueue
+     * @param comparator      Comparator to use for ordering of elements.
+     * @param capacityPolicy  Policy used to grow and shrink the PriorityQueue
+     * @param stable          true if equal elements must be removed in insertion
+     *                        (FIFO) order
+     * @throws IllegalArgumentException if initialCapacity is invalid
+     * @throws NullPointerException     if capacityPolicy is null
+     * @see Comparator
+     * @see CapacityPolicy
+     */
+    public PriorityQueue(int initialCapacity, Comparator<? super E> comparator, CapacityPolicy capacityPolicy, boolean stable) {
         if (initialCapacity < 1 || initialCapacity > MAX_QUEUE_CAPACITY) {
             throw new IllegalArgumentException("Size of queue is invalid: " + initialCapacity);
         }
 
+        if (capacityPolicy == null) {
+            throw new NullPointerException("Capacity policy can't be null");
+        }
+
         this.queue = new Object[initialCapacity];
         this.size = 0;
         this.comparator = comparator;
+        this.initialCapacity = initialCapacity;
+        this.capacityPolicy = capacityPolicy;
+        this.sequence = stable ? new long[initialCapacity] : null;
+        this.nextSequence = 0;
     }
 
     /**
@@ -110,8 +245,12 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
             throw new NullPointerException("Null insertion is not allowed");
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (this.size >= queue.length) {
-            growPriorityQueue();
+            growPriorityQueue(this.size + 1);
         }
 
         insertElement(size, e);
@@ -119,6 +258,126 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
         return true;
     }
 
+    /**
+     * Inserts all elements of the specified array in this PriorityQueue
+     * <p>
+     * Elements are appended at the end of the queue array first. If the batch
+     * is large compared to the queue, heap order is then restored for the whole
+     * array at once (bottom-up heapify, O(n)), otherwise every appended element
+     * is sifted up (O(k log n)).
+     * </p>
+     *
+     * @param elements elements to be inserted
+     * @return number of elements inserted
+     * @throws NullPointerException if array or any of its element is null
+     *                              (PriorityQueue is not changed)
+     */
+    public int offerAll(E[] elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements can't be null");
+        }
+
+        for (E e : elements) {
+            if (e == null) {
+                throw new NullPointerException("Null insertion is not allowed");
+            }
+        }
+
+        if (this.size + elements.length > queue.length) {
+            growPriorityQueue(this.size + elements.length);
+        }
+
+        int oldSize = this.size;
+
+        for (E e : elements) {
+            appendElement(e);
+        }
+
+        restoreHeapOrder(oldSize);
+        return elements.length;
+    }
+
+    /**
+     * Inserts all elements of the specified iterable in this PriorityQueue (see
+     * {@link #offerAll(Comparable[])})
+     *
+     * @param elements elements to be inserted
+     * @return number of elements inserted
+     * @throws NullPointerException if iterable or any of its element is null
+     *                              (elements before the null one are inserted)
+     */
+    public int offerAll(Iterable<? extends E> elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements can't be null");
+        }
+
+        int oldSize = this.size;
+
+        try {
+            for (E e : elements) {
+                if (e == null) {
+                    throw new NullPointerException("Null insertion is not allowed");
+                }
+
+                if (this.size >= queue.length) {
+                    growPriorityQueue(this.size + 1);
+                }
+
+                appendElement(e);
+            }
+        } finally {
+            restoreHeapOrder(oldSize);
+        }
+
+        return this.size - oldSize;
+    }
+
+    /**
+     * Appends element at the end of queue array without restoring heap order
+     * (capacity must be available)
+     *
+     * @param element element to append
+     */
+    private void appendElement(E element) {
+        queue[size] = element;
+
+        if (sequence != null) {
+            sequence[size] = nextSequence++;
+        }
+
+        size++;
+    }
+
+    /**
+     * Restores heap order after elements are appended from specified position
+     * to the end of queue array, by heapify if the batch is large compared to
+     * the queue or by sifting up every appended element otherwise
+     *
+     * @param firstAppended position of first appended element
+     */
+    private void restoreHeapOrder(int firstAppended) {
+        int count = this.size - firstAppended;
+
+        if (count == 0) {
+            return;
+        }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        // sifting up costs about log2(size) comparisons per element, heapify about 2 per element of the queue
+        int depth = 32 - Integer.numberOfLeadingZeros(this.size);
+
+        if ((long) count * depth >= 2L * this.size) {
+            heapify();
+        } else {
+            for (int i = firstAppended; i < this.size; i++) {
+                siftUp(i);
+            }
+        }
+    }
+
     /**
      * Inserts element at specified position in this PriorityQueue.
      * <p>
@@ -130,45 +389,211 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
      * @param position position where to insert element
      * @param element  element to be inserted in this PriorityQueue
      */
-    @SuppressWarnings("unchecked")
     private void insertElement(int position, E element) {
-        if (position == 0) {
-            queue[position] = element;
-            return;
+        queue[position] = element;
+
+        if (sequence != null) {
+            sequence[position] = nextSequence++;
         }
 
-        queue[position] = element;
+        siftUp(position);
+    }
 
+    /**
+     * Moves the element of specified position towards the root until its parent
+     * is not greater than it
+     *
+     * @param position position of element to move
+     * @return final position of element
+     */
+    private int siftUp(int position) {
         while (position > 0) {
             int parentPosition = (position - 1) >> 1;
-            E parentElement = (E) queue[parentPosition];
 
-            if (compare(element, parentElement) < 0) {
+            if (compareAt(position, parentPosition) < 0) {
                 swapQueueElements(position, parentPosition);
                 position = parentPosition;
             } else {
                 break;
             }
         }
+
+        return position;
+    }
+
+    /**
+     * Moves the element of specified position towards the leaves until none of
+     * its children is less than it
+     *
+     * @param position position of element to move
+     * @return final position of element
+     */
+    private int siftDown(int position) {
+        while (position < this.size) {
+            int leftChildPosition = (position << 1) + 1;
+            int rightChildPosition = (position << 1) + 2;
+            int minElementPosition = position;
+
+            if (leftChildPosition < this.size && compareAt(minElementPosition, leftChildPosition) > 0) {
+                minElementPosition = leftChildPosition;
+            }
+
+            if (rightChildPosition < this.size && compareAt(minElementPosition, rightChildPosition) > 0) {
+                minElementPosition = rightChildPosition;
+            }
+
+            if (minElementPosition != position) {
+                swapQueueElements(minElementPosition, position);
+                position = minElementPosition;
+            } else {
+                break;
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * Restores heap order of whole queue array by sifting down every parent
+     * position from the last parent to the root (Floyd's method, O(n))
+     */
+    private void heapify() {
+        HeapSupport.heapify(size, this::siftDown);
     }
 
     /**
      * Creates a new PriorityQueue of new capacity when current PriorityQueue
      * exceeds its capacity and replace current PriorityQueue with new PriorityQueue
      *
+     * @param minCapacity minimum capacity required in the new queue array
      * @throws OutOfMemoryError if JVM runs out of memory for this PriorityQueue
      */
-    private void growPriorityQueue() {
-        int currentCapacity = queue.length;
-        int newCapacity = currentCapacity < 64 ? (currentCapacity << 1) : currentCapacity + (currentCapacity >> 1);
+    private void growPriorityQueue(int minCapacity) {
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        ResizeEvent event = new ResizeEvent();
+        event.begin();
+
+        int oldCapacity = queue.length;
+        resize(capacityPolicy.grow(oldCapacity, minCapacity));
+
+        event.record("PriorityQueue", size, oldCapacity, queue.length);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordResize(startNanos);
+        }
+    }
+
+    /**
+     * Shrinks the queue array after removal if capacity policy allows it
+     */
+    private void shrinkIfRequired() {
+        int newCapacity = capacityPolicy.shrink(queue.length, size, initialCapacity);
 
-        if (newCapacity > MAX_QUEUE_CAPACITY) {
-            throw new OutOfMemoryError("JVM Running out of Memory");
+        if (newCapacity < queue.length) {
+            resize(newCapacity);
         }
+    }
 
+    /**
+     * Replaces the queue array with a new array of specified capacity containing
+     * all elements of this PriorityQueue (heap order is preserved)
+     *
+     * @param newCapacity capacity of new queue array (must not be less than size)
+     */
+    private void resize(int newCapacity) {
         Object[] newQueue = new Object[newCapacity];
-        System.arraycopy(queue, 0, newQueue, 0, queue.length);
+        System.arraycopy(queue, 0, newQueue, 0, size);
         queue = newQueue;
+        staleEnd = 0;
+
+        if (sequence != null) {
+            sequence = Arrays.copyOf(sequence, newCapacity);
+        }
+    }
+
+    /**
+     * Increases the capacity of this PriorityQueue, if necessary, so that it can
+     * hold at least the specified number of elements without growing
+     *
+     * @param minCapacity desired minimum capacity
+     * @throws OutOfMemoryError if desired capacity exceeds maximum queue capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > queue.length) {
+            growPriorityQueue(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this PriorityQueue to its current size (at least 1)
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(size, 1);
+
+        if (newCapacity < queue.length) {
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Returns the current capacity of this PriorityQueue
+     *
+     * @return current capacity of queue array
+     */
+    public int capacity() {
+        return queue.length;
+    }
+
+    /**
+     * Returns the metrics shared by all PriorityQueues. Metrics are recorded only
+     * if {@link ContainerMetrics#ENABLED} is true.
+     *
+     * @return metrics of PriorityQueue type
+     */
+    public static ContainerMetricsMXBean metrics() {
+        return METRICS;
+    }
+
+    /**
+     * Returns the capacity policy used by this PriorityQueue
+     *
+     * @return policy used to grow and shrink this PriorityQueue
+     */
+    public CapacityPolicy capacityPolicy() {
+        return this.capacityPolicy;
+    }
+
+    /**
+     * Sets what {@link #clear()} does with the queue array (see
+     * {@link ClearPolicy} for GC implications). Leaving
+     * {@link ClearPolicy#SCRATCH} nulls the slots still referring to cleared
+     * elements
+     *
+     * @param clearPolicy new clear policy
+     * @throws NullPointerException if clear policy is null
+     */
+    public void setClearPolicy(ClearPolicy clearPolicy) {
+        if (clearPolicy == null) {
+            throw new NullPointerException("Clear policy can't be null");
+        }
+
+        if (clearPolicy != ClearPolicy.SCRATCH) {
+            if (staleEnd > size) {
+                Arrays.fill(queue, size, staleEnd, null);
+            }
+            staleEnd = 0;
+        }
+
+        this.clearPolicy = clearPolicy;
+    }
+
+    /**
+     * Returns the clear policy used by this PriorityQueue
+     *
+     * @return policy deciding what clear() does with the queue array
+     */
+    public ClearPolicy clearPolicy() {
+        return this.clearPolicy;
     }
 
     /**
@@ -180,6 +605,123 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
         return this.isEmpty() ? null : removeAt(0);
     }
 
+    /**
+     * Removes at most the specified number of elements from the head of this
+     * PriorityQueue and appends them to the specified list in priority order
+     *
+     * @param target      list to which elements are appended
+     * @param maxElements maximum number of elements to remove
+     * @return number of elements moved to target list
+     * @throws NullPointerException     if target list is null
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public int drainTo(ArrayList<? super E> target, int maxElements) {
+        if (target == null) {
+            throw new NullPointerException("Target list can't be null");
+        }
+
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Invalid maximum elements " + maxElements);
+        }
+
+        int count = Math.min(maxElements, size);
+        target.ensureCapacity(target.size() + count);
+
+        for (int i = 0; i < count; i++) {
+            target.add(removeHead());
+        }
+
+        shrinkIfRequired();
+        return count;
+    }
+
+    /**
+     * Removes at most the specified number of elements from the head of this
+     * PriorityQueue and passes them to the specified action in priority order.
+     * The queue array is shrunk (if capacity policy allows it) once at the end
+     * instead of after every element
+     *
+     * @param action      action receiving the removed elements
+     * @param maxElements maximum number of elements to remove
+     * @return number of elements removed
+     * @throws NullPointerException     if action is null
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public int drain(Consumer<? super E> action, int maxElements) {
+        if (action == null) {
+            throw new NullPointerException("Action can't be null");
+        }
+
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Invalid maximum elements " + maxElements);
+        }
+
+        int count = Math.min(maxElements, size);
+
+        try {
+            for (int i = 0; i < count; i++) {
+                action.accept(removeHead());
+            }
+        } finally {
+            shrinkIfRequired();
+        }
+
+        return count;
+    }
+
+    /**
+     * Removes at most the specified number of elements from the head of this
+     * PriorityQueue and stores them in priority order in the specified array
+     * from index 0
+     *
+     * @param target      array receiving the removed elements
+     * @param maxElements maximum number of elements to remove (also limited by
+     *                    length of the array)
+     * @return number of elements removed
+     * @throws NullPointerException     if target array is null
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public int drainTo(E[] target, int maxElements) {
+        if (target == null) {
+            throw new NullPointerException("Target array can't be null");
+        }
+
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Invalid maximum elements " + maxElements);
+        }
+
+        int count = Math.min(Math.min(maxElements, size), target.length);
+
+        for (int i = 0; i < count; i++) {
+            target[i] = removeHead();
+        }
+
+        shrinkIfRequired();
+        return count;
+    }
+
+    /**
+     * Removes the head of this non-empty PriorityQueue without shrinking the
+     * queue array (used by batch removals)
+     *
+     * @return element present at the head
+     */
+    @SuppressWarnings("unchecked")
+    private E removeHead() {
+        E head = (E) queue[0];
+        this.size--;
+
+        if (this.size > 0) {
+            swapQueueElements(this.size, 0);
+            queue[size] = null;
+            siftDown(0);
+        } else {
+            queue[0] = null;
+        }
+
+        return head;
+    }
+
     /**
      * Removes the specified element from PriorityQueue if present
      *
@@ -192,8 +734,20 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
             throw new NoSuchElementException("Queue is empty");
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
+        int sizeBeforeRemoval = size;
         int elementIndex = this.indexOf(o);
         removeAt(elementIndex);
+
+        event.record("PriorityQueue", "remove", elementIndex, sizeBeforeRemoval, elementIndex < 0 ? sizeBeforeRemoval : elementIndex + 1);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         return elementIndex != -1;
     }
 
@@ -223,48 +777,26 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
             return null;
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         E removedElement = (E) queue[index];
         this.size--;
 
         if (this.size > 0) {
             swapQueueElements(this.size, index);
             queue[size] = null;
-            int pointer = index;
-
-            while (pointer < this.size) {
-                E element = (E) queue[pointer];
-                E leftChild;
-                E rightChild;
-                int leftChildPosition = (pointer << 1) + 1;
-                int rightChildPosition = (pointer << 1) + 2;
-                int minMaxElementPosition = pointer;
-
-                if (leftChildPosition < this.size) {
-                    leftChild = (E) queue[leftChildPosition];
-
-                    if (compare(element, leftChild) > 0) {
-                        minMaxElementPosition = leftChildPosition;
-                    }
-                }
-
-                if (rightChildPosition < this.size) {
-                    rightChild = (E) queue[rightChildPosition];
-                    element = (E) queue[minMaxElementPosition];
 
-                    if (compare(element, rightChild) > 0) {
-                        minMaxElementPosition = rightChildPosition;
-                    }
-                }
-
-                if (minMaxElementPosition != pointer) {
-                    swapQueueElements(minMaxElementPosition, pointer);
-                    pointer = minMaxElementPosition;
-                } else {
-                    break;
-                }
+            // last element moved in the middle of the heap may be less than its new parent
+            if (index < this.size && siftDown(index) == index) {
+                siftUp(index);
             }
+        } else {
+            queue[0] = null;
         }
 
+        shrinkIfRequired();
         return removedElement;
     }
 
@@ -277,6 +809,10 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
      */
     @SuppressWarnings("unchecked")
     public E peek() {
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         return this.isEmpty() ? null : (E) queue[0];
     }
 
@@ -310,19 +846,54 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
             throw new IllegalArgumentException();
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordShifts(1);
+        }
+
         E element = (E) queue[childPosition];
         queue[childPosition] = queue[parentPosition];
         queue[parentPosition] = element;
+
+        if (sequence != null) {
+            long elementSequence = sequence[childPosition];
+            sequence[childPosition] = sequence[parentPosition];
+            sequence[parentPosition] = elementSequence;
+        }
     }
 
     /**
-     * Remove all elements from the PriorityQueue and makes this PriorityQueue empty
+     * Remove all elements from the PriorityQueue and makes this PriorityQueue empty.
+     * The queue array is replaced, reused or left as it is according to the
+     * {@link #clearPolicy()}
      */
     public void clear() {
-        queue = new Object[DEFAULT_INITIAL_CAPACITY];
+        if (clearPolicy == ClearPolicy.SCRATCH) {
+            staleEnd = Math.max(staleEnd, size);
+        } else if (clearPolicy == ClearPolicy.RETAIN) {
+            Arrays.fill(queue, 0, Math.max(size, staleEnd), null);
+            staleEnd = 0;
+        } else {
+            queue = new Object[initialCapacity];
+            staleEnd = 0;
+
+            if (sequence != null) {
+                sequence = new long[initialCapacity];
+            }
+        }
+
         this.size = 0;
     }
 
+    /**
+     * Checks if this PriorityQueue removes equal elements in insertion (FIFO)
+     * order
+     *
+     * @return true if this PriorityQueue is stable or false otherwise
+     */
+    public boolean isStable() {
+        return sequence != null;
+    }
+
     /**
      * Returns the comparator used to order elements in this PriorityQueue
      *
@@ -355,10 +926,18 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
         for (E element : this) {
             index++;
             if (element == o || element.equals(o)) {
+                if (ContainerMetrics.ENABLED) {
+                    METRICS.recordTraversal(index + 1);
+                }
+
                 return index;
             }
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordTraversal(size);
+        }
+
         return -1;
     }
 
@@ -379,21 +958,31 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
     }
 
     /**
-     * Method to compare two elements
+     * Method to compare the elements of two positions of queue array. Equal
+     * elements are ordered by their insertion sequence if this queue is stable.
      *
-     * @param first  element with which other element is compared
-     * @param second second element which is compared with first element
-     * @return -1, 0 or 1 according to comparator (if available) or element's
-     *         comparable method
-     * @see Comparable
-     * @see Comparator
+     * @param first  position of first element
+     * @param second position of second element
+     * @return negative, zero or positive value if first element is less than,
+     *         equal to or greater than second element
      */
-    private int compare(E first, E second) {
-        return this.comparator == null ? first.compareTo(second) : comparator.compare(first, second);
+    private int compareAt(int first, int second) {
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordComparison();
+        }
+
+        int result = HeapSupport.<E>compareAt(comparator, queue, first, second);
+
+        if (result == 0 && sequence != null) {
+            result = Long.compare(sequence[first], sequence[second]);
+        }
+
+        return result;
     }
 
     /**
-     * Returns the iterator for this PriorityQueue
+     * Returns the iterator for this PriorityQueue. Elements are returned in the
+     * order of queue array (not in priority order).
      *
      * @return iterator object for this PriorityQueue
      * @see Iterator
@@ -404,7 +993,26 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
     }
 
     /**
-     * Checks if current PriorityQueue is equal to the specified PriorityQueue
+     * Returns an iterator which returns the elements of this PriorityQueue in
+     * priority order without modifying the queue.
+     * <p>
+     * Iterator keeps a small heap of frontier positions (positions whose parent
+     * was already returned), so the first k elements are returned in O(k log k)
+     * time and O(k) extra space regardless of queue size. PriorityQueue must not
+     * be modified while the iterator is in use.
+     * </p>
+     *
+     * @return iterator which returns elements in priority order
+     * @see Iterator
+     */
+    public Iterator<E> sortedIterator() {
+        return new SortedIterator();
+    }
+
+    /**
+     * Checks if current PriorityQueue is equal to the specified PriorityQueue.
+     * Queues are equal if they hold equal elements in the same queue array order
+     * and use equal comparators (capacity and clear history are ignored)
      *
      * @return true if specified PQ is equal to this PQ or false otherwise
      */
@@ -419,7 +1027,10 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
         }
 
         PriorityQueue<?> that = (PriorityQueue<?>) o;
-        return size == that.size && Arrays.equals(queue, that.queue) && comparator.equals(that.comparator);
+        // only [0, size) holds elements, slots beyond it may still refer to cleared elements
+        return size == that.size
+                && Arrays.equals(queue, 0, size, that.queue, 0, that.size)
+                && Objects.equals(comparator, that.comparator);
     }
 
     /**
@@ -430,10 +1041,88 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
     @Override
     public int hashCode() {
         int result = Objects.hash(size, comparator);
-        result = 31 * result + Arrays.hashCode(queue);
+
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + queue[i].hashCode();
+        }
+
         return result;
     }
 
+    /**
+     * Writes a compact binary snapshot of this PriorityQueue to the given file
+     * (file is created or truncated). Elements are written in queue array (heap)
+     * order, together with insertion sequences if this queue is stable.
+     *
+     * @param path  file to write the snapshot to
+     * @param codec codec used to encode the elements
+     * @throws IOException          if an I/O error occurs
+     * @throws NullPointerException if codec is null
+     */
+    public void writeSnapshot(Path path, ElementCodec<? super E> codec) throws IOException {
+        long[] trailer = null;
+
+        if (sequence != null) {
+            trailer = Arrays.copyOf(sequence, size + 1);
+            trailer[size] = nextSequence;
+        }
+
+        Snapshot.write(path, Snapshot.PRIORITY_QUEUE, size, this, codec, trailer);
+    }
+
+    /**
+     * Restores a PriorityQueue from a snapshot written by {@link #writeSnapshot}.
+     * <p>
+     * The queue array is allocated once with room for all elements and elements
+     * are restored in heap order as-is (no re-heapify), so the specified
+     * comparator must order elements like the comparator of the saved queue.
+     * </p>
+     *
+     * @param path       file to read the snapshot from
+     * @param codec      codec used to decode the elements
+     * @param comparator comparator used by the saved queue (null for natural
+     *                   ordering)
+     * @param <E>        the type of elements
+     * @return restored PriorityQueue
+     * @throws IOException          if an I/O error occurs or the file is not a
+     *                              PriorityQueue snapshot
+     * @throws NullPointerException if codec is null
+     */
+    public static <E extends Comparable<E>> PriorityQueue<E> readSnapshot(Path path, ElementCodec<E> codec, Comparator<? super E> comparator) throws IOException {
+        try (Snapshot.Reader<E> reader = Snapshot.read(path, Snapshot.PRIORITY_QUEUE, codec)) {
+            int size = reader.size();
+            PriorityQueue<E> restored = new PriorityQueue<E>(HeapSupport.DEFAULT_INITIAL_CAPACITY, comparator, HeapSupport.DEFAULT_CAPACITY_POLICY, reader.hasTrailer());
+
+            if (size > restored.queue.length) {
+                restored.resize(size);
+            }
+
+            for (int i = 0; i < size; i++) {
+                E element = reader.next();
+
+                if (element == null) {
+                    throw new IOException("Invalid snapshot: queue can't contain null element");
+                }
+
+                restored.queue[i] = element;
+            }
+
+            if (restored.sequence != null) {
+                long[] trailer = reader.trailer();
+
+                if (trailer.length != size + 1) {
+                    throw new IOException("Invalid snapshot: expected " + (size + 1) + " sequence numbers");
+                }
+
+                System.arraycopy(trailer, 0, restored.sequence, 0, size);
+                restored.nextSequence = trailer[size];
+            }
+
+            restored.size = size;
+            return restored;
+        }
+    }
+
     /**
      * Returns the string representation of PriorityQueue.
      * <p>
@@ -467,6 +1156,103 @@ public class PriorityQueue<E extends Comparable<E>> implements Iterable<E> {
         return builder.toString();
     }
 
+    /**
+     * Class used to implement the sorted iterator for this PriorityQueue.
+     * <p>
+     * Next element is always the least element of the frontier heap. When it is
+     * returned, its children in queue array join the frontier.
+     * </p>
+     *
+     * @see PriorityQueue#sortedIterator()
+     */
+    private final class SortedIterator implements Iterator<E> {
+        private int[] frontier = new int[16];
+        private int frontierSize = 0;
+
+        private SortedIterator() {
+            if (size > 0) {
+                frontier[frontierSize++] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.frontierSize != 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (this.frontierSize == 0) {
+                throw new NoSuchElementException();
+            }
+
+            int index = frontier[0];
+            frontier[0] = frontier[--frontierSize];
+            siftDownFrontier();
+
+            int leftChildPosition = (index << 1) + 1;
+
+            if (leftChildPosition < size) {
+                pushFrontier(leftChildPosition);
+            }
+
+            if (leftChildPosition + 1 < size) {
+                pushFrontier(leftChildPosition + 1);
+            }
+
+            return (E) queue[index];
+        }
+
+        private void pushFrontier(int index) {
+            if (frontierSize == frontier.length) {
+                frontier = Arrays.copyOf(frontier, frontierSize << 1);
+            }
+
+            int position = frontierSize++;
+
+            while (position > 0) {
+                int parentPosition = (position - 1) >> 1;
+
+                if (compareAt(index, frontier[parentPosition]) >= 0) {
+                    break;
+                }
+
+                frontier[position] = frontier[parentPosition];
+                position = parentPosition;
+            }
+
+            frontier[position] = index;
+        }
+
+        private void siftDownFrontier() {
+            if (frontierSize == 0) {
+                return;
+            }
+
+            int index = frontier[0];
+            int position = 0;
+            int half = frontierSize >>> 1;
+
+            while (position < half) {
+                int childPosition = (position << 1) + 1;
+
+                if (childPosition + 1 < frontierSize && compareAt(frontier[childPosition + 1], frontier[childPosition]) < 0) {
+                    childPosition++;
+                }
+
+                if (compareAt(index, frontier[childPosition]) <= 0) {
+                    break;
+                }
+
+                frontier[position] = frontier[childPosition];
+                position = childPosition;
+            }
+
+            frontier[position] = index;
+        }
+    }
+
     /**
      * Class used to implement the iterator for this PriorityQueue.
      *
@@ -1,13 +1,19 @@
 package com.akgarg.datastructures;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
- * Queue implementation using array and Java Generics.
+ * Queue implementation using circular array and Java Generics.
  * By default, queue follow FIFO (First In First Out) but in this implementation
- * there are two methods which can be used to perform insertion at head side of queue and
- * deletion at end of the queue.
+ * there are methods which can be used to perform insertion at head side of queue and
+ * deletion at end of the queue, so this queue can also be used as double ended queue (deque).
+ * <p>Insertion and deletion at both ends ({@link #offerFirst}, {@link #offerLast}, {@link #pollFirst},
+ * {@link #pollLast}) take constant time. Insertion and deletion in the middle shift the shorter side only.</p>
  * Please note that this implementation of Queue is not synchronized.
  *
  * @author Akhilesh Garg
@@ -26,14 +32,27 @@ public class Queue<E> implements Iterable<E> {
     // holds the current number of elements in the queue
     private int size;
 
+    // array index of the head element of the queue (elements wrap around the end of the array)
+    private int head;
+
+    // capacity below which the queue is never shrunk automatically
+    private final int initialCapacity;
+
+    // policy used to grow and shrink the queue array
+    private final CapacityPolicy capacityPolicy;
+
+    // default policy used to grow the queue array (by 50%)
+    private static final CapacityPolicy DEFAULT_CAPACITY_POLICY = new CapacityPolicy(1.5, 0);
+
+    // metrics shared by all queues (recorded only if enabled)
+    private static final ContainerMetrics METRICS = ContainerMetrics.register("Queue");
+
 
     /**
      * Default constructor of Queue, initialize all required fields to their default values.
      */
     public Queue() {
-        queue = new Object[DEFAULT_SIZE];
-        capacity = DEFAULT_SIZE;
-        this.size = 0;
+        this(DEFAULT_SIZE, DEFAULT_CAPACITY_POLICY);
     }
 
 
@@ -44,13 +63,32 @@ public class Queue<E> implements Iterable<E> {
      * @throws IllegalArgumentException if initialCapacity is less than 1.
      */
     public Queue(int initialCapacity) {
-        if (initialCapacity <= 0) {
+        this(initialCapacity, DEFAULT_CAPACITY_POLICY);
+    }
+
+
+    /**
+     * Constructor used to initialize the capacity and capacity policy of the queue.
+     *
+     * @param initialCapacity capacity of the queue.
+     * @param capacityPolicy  policy used to grow and shrink the queue.
+     * @throws IllegalArgumentException if initialCapacity is less than 1.
+     * @throws NullPointerException     if capacity policy is null.
+     */
+    public Queue(int initialCapacity, CapacityPolicy capacityPolicy) {
+        if (initialCapacity <= 0 || initialCapacity > CapacityPolicy.MAX_ARRAY_CAPACITY) {
             throw new IllegalArgumentException("Invalid capacity " + initialCapacity);
         }
 
+        if (capacityPolicy == null) {
+            throw new NullPointerException("Capacity policy can't be null");
+        }
+
         queue = new Object[initialCapacity];
         this.size = 0;
         capacity = initialCapacity;
+        this.initialCapacity = initialCapacity;
+        this.capacityPolicy = capacityPolicy;
     }
 
 
@@ -62,23 +100,17 @@ public class Queue<E> implements Iterable<E> {
      * @throws NullPointerException if element provided is null.
      */
     public boolean add(E element) {
-        if (size == capacity) {
-            queue = getNewArray(size);
-            capacity = queue.length;
-        }
-
         if (element == null) {
             throw new NullPointerException("null insertion is not allowed");
         }
 
-        queue[size] = element;
-        size++;
-        return true;
+        return offerLast(element);
     }
 
 
     /**
      * Method to insert new element at the specified position in the queue.
+     * <p>Elements of the shorter side (before or after index) are shifted to make room for new element.</p>
      *
      * @param index   index position where to insert new element in queue.
      * @param element element what is going to be stored in queue.
@@ -93,22 +125,42 @@ public class Queue<E> implements Iterable<E> {
             throw new NullPointerException("null insertion is not allowed");
         }
 
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         if (size == capacity) {
-            queue = getNewArray(size);
-            capacity = queue.length;
+            queue = getNewArray(size + 1);
         }
 
-        int count = 0;
-
-        while (count != index) {
-            count++;
+        int shifts;
+
+        if (index < size - index) {
+            head = head == 0 ? capacity - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                queue[physicalIndex(i)] = queue[physicalIndex(i + 1)];
+            }
+            shifts = index;
+        } else {
+            for (int i = size; i > index; i--) {
+                queue[physicalIndex(i)] = queue[physicalIndex(i - 1)];
+            }
+            shifts = size - index;
         }
 
-        for (int i = size + 1; i >= count; i--) {
-            queue[i + 1] = queue[i];
+        queue[physicalIndex(index)] = element;
+        event.record("Queue", "add", index, size, shifts);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordShifts(shifts);
+
+            // insertion at either end shifts nothing and is not a linear operation
+            if (shifts > 0) {
+                METRICS.recordLinearOperation(startNanos);
+            }
         }
 
-        queue[count] = element;
         size++;
 
         return true;
@@ -122,16 +174,56 @@ public class Queue<E> implements Iterable<E> {
      * @return boolean value according to success or failure of insertion.
      */
     public boolean offer(E element) {
+        return offerLast(element);
+    }
+
+
+    /**
+     * Method used to insert new element at the beginning (head) of the queue in constant time.
+     *
+     * @param element element to insert in the queue.
+     * @return boolean value according to success or failure of insertion.
+     */
+    public boolean offerFirst(E element) {
+        if (element == null) {
+            return false;
+        }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (size == capacity) {
-            queue = getNewArray(size);
-            capacity = queue.length;
+            queue = getNewArray(size + 1);
         }
 
+        head = head == 0 ? capacity - 1 : head - 1;
+        queue[head] = element;
+        size++;
+        return true;
+    }
+
+
+    /**
+     * Method used to insert new element at the end (tail) of the queue in constant time.
+     *
+     * @param element element to append in the queue.
+     * @return boolean value according to success or failure of insertion.
+     */
+    public boolean offerLast(E element) {
         if (element == null) {
             return false;
         }
 
-        queue[size] = element;
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        if (size == capacity) {
+            queue = getNewArray(size + 1);
+        }
+
+        queue[physicalIndex(size)] = element;
         size++;
         return true;
     }
@@ -148,7 +240,7 @@ public class Queue<E> implements Iterable<E> {
             throw new NoSuchElementException("Queue is empty");
         }
 
-        return (E) queue[0];
+        return (E) queue[head];
     }
 
 
@@ -158,11 +250,45 @@ public class Queue<E> implements Iterable<E> {
      * @return head element of the queue or return null if queue is empty.
      */
     public E peek() {
+        return peekFirst();
+    }
+
+
+    /**
+     * Method to retrieve the head element of the queue without removing the head.
+     *
+     * @return head element of the queue or return null if queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E peekFirst() {
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (size == 0) {
             return null;
         }
 
-        return (E) queue[0];
+        return (E) queue[head];
+    }
+
+
+    /**
+     * Method to retrieve the last element of the queue without removing it.
+     *
+     * @return last element of the queue or return null if queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E peekLast() {
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        if (size == 0) {
+            return null;
+        }
+
+        return (E) queue[physicalIndex(size - 1)];
     }
 
 
@@ -177,20 +303,13 @@ public class Queue<E> implements Iterable<E> {
             throw new IllegalStateException("Queue is Empty");
         }
 
-        E object = (E) queue[0];
-        for (int i = 1; i < size; i++) {
-            queue[i - 1] = queue[i];
-        }
-
-        queue[size] = null;
-        size--;
-
-        return object;
+        return pollFirst();
     }
 
 
     /**
      * Method to remove the element of specific index position from queue.
+     * <p>Elements of the shorter side (before or after index) are shifted to fill the gap.</p>
      *
      * @param index index position of element to remove.
      * @return element which is removed from queue.
@@ -201,20 +320,42 @@ public class Queue<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("index out of range " + index);
         }
 
-        int count = 0;
-
-        while (count != index) {
-            count++;
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
+        E object = (E) queue[physicalIndex(index)];
+        int shifts;
+
+        if (index < size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                queue[physicalIndex(i)] = queue[physicalIndex(i - 1)];
+            }
+            queue[head] = null;
+            head = head == capacity - 1 ? 0 : head + 1;
+            shifts = index;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                queue[physicalIndex(i)] = queue[physicalIndex(i + 1)];
+            }
+            queue[physicalIndex(size - 1)] = null;
+            shifts = size - 1 - index;
         }
 
-        E object = (E) queue[count];
+        event.record("Queue", "remove", index, size, shifts);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordShifts(shifts);
 
-        for (int i = index; i < size; i++) {
-            queue[i] = queue[i + 1];
+            // removal at either end shifts nothing and is not a linear operation
+            if (shifts > 0) {
+                METRICS.recordLinearOperation(startNanos);
+            }
         }
 
-        queue[size] = null;
         size--;
+        shrinkIfRequired();
 
         return object;
     }
@@ -226,22 +367,224 @@ public class Queue<E> implements Iterable<E> {
      * @return removed head element of queue or return null if queue is empty.
      */
     public E poll() {
+        return pollFirst();
+    }
+
+
+    /**
+     * Method to remove the head of the queue in constant time.
+     *
+     * @return removed head element of queue or return null if queue is empty.
+     */
+    public E pollFirst() {
         if (size == 0) {
             return null;
         }
 
-        E object = (E) queue[0];
-        for (int i = 1; i < size; i++) {
-            queue[i - 1] = queue[i];
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
         }
-        queue[size] = null;
 
+        @SuppressWarnings("unchecked")
+        E object = (E) queue[head];
+        queue[head] = null;
+        head = head == capacity - 1 ? 0 : head + 1;
         size--;
+        shrinkIfRequired();
 
         return object;
     }
 
 
+    /**
+     * Method to remove the last element of the queue in constant time.
+     *
+     * @return removed last element of queue or return null if queue is empty.
+     */
+    public E pollLast() {
+        if (size == 0) {
+            return null;
+        }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        int index = physicalIndex(size - 1);
+        @SuppressWarnings("unchecked")
+        E object = (E) queue[index];
+        queue[index] = null;
+        size--;
+        shrinkIfRequired();
+
+        return object;
+    }
+
+
+    /**
+     * Method to append all elements of the given array at the end of the queue.
+     * <p>Room is made once and elements are copied with at most two {@link System#arraycopy} calls.</p>
+     *
+     * @param elements elements to append in the queue (in array order).
+     * @return number of elements appended.
+     * @throws NullPointerException if array or any of its element is null (queue is not changed).
+     */
+    public int offerAll(E[] elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements can't be null");
+        }
+
+        for (E element : elements) {
+            if (element == null) {
+                throw new NullPointerException("null insertion is not allowed");
+            }
+        }
+
+        int count = elements.length;
+
+        if (count == 0) {
+            return 0;
+        }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        if (size + count > capacity) {
+            queue = getNewArray(size + count);
+        }
+
+        int tail = physicalIndex(size);
+        int firstPart = Math.min(count, capacity - tail);
+        System.arraycopy(elements, 0, queue, tail, firstPart);
+        System.arraycopy(elements, firstPart, queue, 0, count - firstPart);
+        size += count;
+
+        return count;
+    }
+
+
+    /**
+     * Method to append all elements of the given iterable at the end of the queue.
+     *
+     * @param elements elements to append in the queue (in iteration order).
+     * @return number of elements appended.
+     * @throws NullPointerException if iterable or any of its element is null (elements before the null one are appended).
+     */
+    public int offerAll(Iterable<? extends E> elements) {
+        if (elements == null) {
+            throw new NullPointerException("Elements can't be null");
+        }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        int count = 0;
+
+        for (E element : elements) {
+            if (element == null) {
+                throw new NullPointerException("null insertion is not allowed");
+            }
+
+            if (size == capacity) {
+                queue = getNewArray(size + 1);
+            }
+
+            queue[physicalIndex(size)] = element;
+            size++;
+            count++;
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Method to remove at most the given number of elements from the head of the queue and pass them to the action in queue order.
+     * <p>The queue is shrunk (if capacity policy allows it) once at the end instead of after every element.</p>
+     *
+     * @param action      action receiving the removed elements.
+     * @param maxElements maximum number of elements to remove.
+     * @return number of elements removed.
+     * @throws NullPointerException     if action is null.
+     * @throws IllegalArgumentException if maxElements is negative.
+     */
+    public int drain(Consumer<? super E> action, int maxElements) {
+        if (action == null) {
+            throw new NullPointerException("Action can't be null");
+        }
+
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Invalid maximum elements " + maxElements);
+        }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        int count = Math.min(maxElements, size);
+
+        try {
+            for (int i = 0; i < count; i++) {
+                @SuppressWarnings("unchecked")
+                E element = (E) queue[head];
+                queue[head] = null;
+                head = head == capacity - 1 ? 0 : head + 1;
+                size--;
+                action.accept(element);
+            }
+        } finally {
+            shrinkIfRequired();
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Method to remove at most the given number of elements from the head of the queue and store them in the array from index 0.
+     * <p>Elements are moved with at most two {@link System#arraycopy} calls.</p>
+     *
+     * @param target      array receiving the removed elements in queue order.
+     * @param maxElements maximum number of elements to remove (also limited by length of the array).
+     * @return number of elements removed.
+     * @throws NullPointerException     if target array is null.
+     * @throws IllegalArgumentException if maxElements is negative.
+     */
+    public int drainTo(E[] target, int maxElements) {
+        if (target == null) {
+            throw new NullPointerException("Target array can't be null");
+        }
+
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Invalid maximum elements " + maxElements);
+        }
+
+        int count = Math.min(Math.min(maxElements, size), target.length);
+
+        if (count == 0) {
+            return 0;
+        }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        int firstPart = Math.min(count, capacity - head);
+        System.arraycopy(queue, head, target, 0, firstPart);
+        System.arraycopy(queue, 0, target, firstPart, count - firstPart);
+        Arrays.fill(queue, head, head + firstPart, null);
+        Arrays.fill(queue, 0, count - firstPart, null);
+
+        head = physicalIndex(count);
+        size -= count;
+        shrinkIfRequired();
+
+        return count;
+    }
+
+
     /**
      * Method to retrieve the current total number of elements in queue.
      *
@@ -283,7 +626,12 @@ public class Queue<E> implements Iterable<E> {
         if (index < 0 || index > size - 1) {
             throw new IndexOutOfBoundsException("Invalid index " + index);
         }
-        return (E) queue[index];
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        return (E) queue[physicalIndex(index)];
     }
 
 
@@ -294,16 +642,7 @@ public class Queue<E> implements Iterable<E> {
      * @return boolean value according to success or failure of the insertion operation.
      */
     public boolean enQueue(E element) {
-        if (element == null) {
-            return false;
-        }
-
-        if (size == capacity) {
-            queue = getNewArray(size + size / 2);
-            capacity = queue.length;
-        }
-
-        return add(0, element);
+        return offerFirst(element);
     }
 
 
@@ -318,25 +657,170 @@ public class Queue<E> implements Iterable<E> {
             throw new IllegalStateException("Queue is empty");
         }
 
-        return remove(size - 1);
+        return pollLast();
+    }
+
+
+    /**
+     * Method to increase the capacity of the queue, if necessary, so that it can hold at least
+     * the specified number of elements without growing.
+     *
+     * @param minCapacity desired minimum capacity.
+     * @throws OutOfMemoryError if desired capacity exceeds maximum array capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            queue = getNewArray(minCapacity);
+        }
+    }
+
+
+    /**
+     * Method to trim the capacity of the queue to its current size (at least 1).
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(size, 1);
+        if (newCapacity < capacity) {
+            queue = resize(newCapacity);
+        }
+    }
+
+
+    /**
+     * Method to retrieve the metrics shared by all queues.
+     * Metrics are recorded only if {@link ContainerMetrics#ENABLED} is true.
+     *
+     * @return metrics of Queue type.
+     */
+    public static ContainerMetricsMXBean metrics() {
+        return METRICS;
+    }
+
+
+    /**
+     * Method to retrieve the capacity policy of the queue.
+     *
+     * @return policy used to grow and shrink the queue.
+     */
+    public CapacityPolicy capacityPolicy() {
+        return this.capacityPolicy;
     }
 
 
     /**
      * Private method to dynamically grow queue if queue gets overflow.
      *
-     * @param size size of the current queue array.
-     * @return new Object[] array of size (previousSize + previousSize/2)
+     * @param minCapacity minimum capacity required in the new array.
+     * @return new Object[] array of capacity computed by the capacity policy.
+     * @throws OutOfMemoryError if required capacity exceeds maximum array capacity.
+     */
+    private Object[] getNewArray(int minCapacity) {
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        ResizeEvent event = new ResizeEvent();
+        event.begin();
+
+        int oldCapacity = capacity;
+        Object[] newArray = resize(capacityPolicy.grow(oldCapacity, minCapacity));
+
+        event.record("Queue", size, oldCapacity, capacity);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordResize(startNanos);
+        }
+
+        return newArray;
+    }
+
+
+    /**
+     * Private method to shrink the queue array after removal if capacity policy allows it.
      */
-    private Object[] getNewArray(int size) {
-        Object[] newArray = new Object[size + size / 2];
-        for (int i = 0; i < this.size; i++) {
-            newArray[i] = this.queue[i];
+    private void shrinkIfRequired() {
+        int newCapacity = capacityPolicy.shrink(capacity, size, initialCapacity);
+        if (newCapacity < capacity) {
+            queue = resize(newCapacity);
         }
+    }
+
+
+    /**
+     * Private method to copy all queue elements in a new array of given capacity (head moves to index 0) and update the capacity.
+     *
+     * @param newCapacity capacity of new array (must not be less than size).
+     * @return new Object[] array containing all elements of queue.
+     */
+    private Object[] resize(int newCapacity) {
+        Object[] newArray = new Object[newCapacity];
+        int firstPart = Math.min(this.size, capacity - head);
+        System.arraycopy(this.queue, head, newArray, 0, firstPart);
+        System.arraycopy(this.queue, 0, newArray, firstPart, this.size - firstPart);
+        head = 0;
+        capacity = newCapacity;
         return newArray;
     }
 
 
+    /**
+     * Private method to map the position of an element in the queue to its index in the circular array.
+     *
+     * @param index position of element in the queue (0 for head, must not exceed capacity).
+     * @return index of element in the queue array.
+     */
+    private int physicalIndex(int index) {
+        return index < capacity - head ? head + index : index - (capacity - head);
+    }
+
+
+    /**
+     * Method to write a compact binary snapshot of the queue to the given file (from head to last element, file is created or truncated).
+     *
+     * @param path  file to write the snapshot to.
+     * @param codec codec used to encode the elements.
+     * @throws IOException          if an I/O error occurs.
+     * @throws NullPointerException if codec is null.
+     */
+    public void writeSnapshot(Path path, ElementCodec<? super E> codec) throws IOException {
+        Snapshot.write(path, Snapshot.QUEUE, size, this, codec, null);
+    }
+
+
+    /**
+     * Method to restore a queue from a snapshot written by {@link #writeSnapshot}.
+     * <p>The backing array is allocated once with room for all elements of the snapshot.</p>
+     *
+     * @param path  file to read the snapshot from.
+     * @param codec codec used to decode the elements.
+     * @param <E>   the type of elements.
+     * @return restored queue.
+     * @throws IOException          if an I/O error occurs or the file is not a queue snapshot.
+     * @throws NullPointerException if codec is null.
+     */
+    public static <E> Queue<E> readSnapshot(Path path, ElementCodec<E> codec) throws IOException {
+        try (Snapshot.Reader<E> reader = Snapshot.read(path, Snapshot.QUEUE, codec)) {
+            Queue<E> restored = new Queue<>();
+            int size = reader.size();
+
+            if (size > restored.capacity) {
+                restored.queue = new Object[size];
+                restored.capacity = size;
+            }
+
+            for (int i = 0; i < size; i++) {
+                Object element = reader.next();
+
+                if (element == null) {
+                    throw new IOException("Invalid snapshot: queue can't contain null element");
+                }
+
+                restored.queue[i] = element;
+            }
+
+            restored.size = size;
+            return restored;
+        }
+    }
+
+
     /**
      * Method to return the string representation of queue.
      * String returned is enclosed in square brackets ("[]").
@@ -353,7 +837,7 @@ public class Queue<E> implements Iterable<E> {
 
         StringBuilder sb = new StringBuilder("[");
         for (int i = 0; i < size; i++) {
-            sb.append(queue[i].toString());
+            sb.append(queue[physicalIndex(i)].toString());
             sb.append(", ");
         }
 
@@ -376,6 +860,16 @@ public class Queue<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Method to get the iterator object which iterates this queue in reverse order (from last element to head).
+     *
+     * @return descending iterator object for this queue.
+     */
+    public Iterator<E> descendingIterator() {
+        return new DescendingQueueIterator();
+    }
+
+
     /**
      * class to enable queue capability for enhanced for loop and iterator iteration.
      * Used by iterator() method to get the iterator of this queue.
@@ -390,7 +884,32 @@ public class Queue<E> implements Iterable<E> {
 
         @Override
         public E next() {
-            return (E) queue[index++];
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            return (E) queue[physicalIndex(index++)];
+        }
+    }
+
+
+    /**
+     * class used by descendingIterator() method to iterate queue from last element to head.
+     */
+    private class DescendingQueueIterator implements Iterator<E> {
+        private int index = size - 1;
+
+        @Override
+        public boolean hasNext() {
+            return index >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (index < 0 || index >= size) {
+                throw new NoSuchElementException();
+            }
+            return (E) queue[physicalIndex(index--)];
         }
     }
 }
\ No newline at end of file
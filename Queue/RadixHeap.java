@@ -0,0 +1,271 @@
+package com.akgarg.datastructures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone priority queue for primitive <code>long</code> keys implemented as a radix heap.
+ * <p>
+ * Every element is stored with a <code>long</code> key, and elements are removed in ascending order of
+ * keys. The heap is <strong>monotone</strong>: a key can't be less than the key of the last removed
+ * element, which is the case for Dijkstra's shortest path algorithm and event simulations. Peeking
+ * also raises this bound to the current least key (see {@link #lastKey()}).
+ * </p>
+ * <p>
+ * Elements are kept in 65 buckets: bucket 0 holds the keys equal to the last key and bucket
+ * <code>i</code> holds the keys whose highest bit differing from the last key is bit
+ * <code>i - 1</code>. When bucket 0 is empty, the least key of the first non-empty bucket becomes the
+ * last key and that bucket is redistributed in lower buckets. An element moves down at most 64 times,
+ * so operations take amortized O(log C) time where C is the largest difference between keys. Keys are
+ * never compared with a comparator and never boxed.
+ * </p>
+ * <p>
+ * This implementation is not synchronized.
+ * </p>
+ *
+ * @param <E> the type of elements to store in RadixHeap (class type only)
+ * @author Akhilesh Garg
+ */
+public class RadixHeap<E> {
+
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+    private static final int DEFAULT_BUCKET_CAPACITY = 4;
+
+    /**
+     * Keys of the elements of every bucket
+     */
+    private final long[][] keys;
+
+    /**
+     * Elements of every bucket (at the same index as their key)
+     */
+    private final Object[][] values;
+
+    /**
+     * Number of elements in every bucket
+     */
+    private final int[] counts;
+
+    /**
+     * Key of the last removed (or peeked) element, no key less than it can be
+     * inserted
+     */
+    private long lastKey;
+
+    /**
+     * Current size of the RadixHeap
+     */
+    private int size;
+
+    /**
+     * Constructor to create an empty RadixHeap which accepts any key
+     */
+    public RadixHeap() {
+        this(Long.MIN_VALUE);
+    }
+
+    /**
+     * Constructor to create an empty RadixHeap which accepts keys greater than or
+     * equal to the specified minimum key
+     *
+     * @param minimumKey least key which can be inserted in the heap
+     */
+    public RadixHeap(long minimumKey) {
+        this.keys = new long[BUCKET_COUNT][];
+        this.values = new Object[BUCKET_COUNT][];
+        this.counts = new int[BUCKET_COUNT];
+        this.lastKey = minimumKey;
+        this.size = 0;
+    }
+
+    /**
+     * Inserts specified element with specified key in this RadixHeap
+     *
+     * @param key   key of the element
+     * @param value element to be inserted
+     * @return true
+     * @throws IllegalArgumentException if key is less than {@link #lastKey()}
+     * @throws NullPointerException     if specified element is null
+     */
+    public boolean offer(long key, E value) {
+        if (key < lastKey) {
+            throw new IllegalArgumentException("Key " + key + " is less than last key " + lastKey);
+        }
+
+        if (value == null) {
+            throw new NullPointerException("Null insertion is not allowed");
+        }
+
+        addToBucket(bucketOf(key), key, value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the element with least key without removing it from RadixHeap
+     *
+     * @return element with least key or null if heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (this.isEmpty()) {
+            return null;
+        }
+
+        refill();
+        return (E) values[0][counts[0] - 1];
+    }
+
+    /**
+     * Returns the least key of this RadixHeap
+     *
+     * @return least key
+     * @throws NoSuchElementException if heap is empty
+     */
+    public long peekKey() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        refill();
+        return lastKey;
+    }
+
+    /**
+     * Returns the element with least key after removing it from RadixHeap. Key of
+     * the removed element can be read with {@link #lastKey()}.
+     *
+     * @return element with least key or null if heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        if (this.isEmpty()) {
+            return null;
+        }
+
+        refill();
+        int index = --counts[0];
+        E value = (E) values[0][index];
+        values[0][index] = null;
+        size--;
+        return value;
+    }
+
+    /**
+     * Returns the least key which can be inserted in this RadixHeap: the key of
+     * the last removed element, or the least key of the heap once it has been
+     * peeked (or the minimum key if no element was removed or peeked yet).
+     *
+     * @return key of last removed or peeked element
+     */
+    public long lastKey() {
+        return this.lastKey;
+    }
+
+    /**
+     * Returns the current size of RadixHeap
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if this RadixHeap is empty or not
+     *
+     * @return true if heap is empty or false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Remove all elements from the RadixHeap and makes it empty. Last key is not
+     * changed.
+     */
+    public void clear() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (values[i] != null) {
+                Arrays.fill(values[i], 0, counts[i], null);
+            }
+            counts[i] = 0;
+        }
+
+        this.size = 0;
+    }
+
+    /**
+     * Makes sure bucket 0 is not empty: finds the first non-empty bucket, sets the
+     * last key to its least key and redistributes its elements in lower buckets.
+     * Heap must not be empty.
+     */
+    private void refill() {
+        if (counts[0] > 0) {
+            return;
+        }
+
+        int bucket = 1;
+
+        while (counts[bucket] == 0) {
+            bucket++;
+        }
+
+        long[] bucketKeys = keys[bucket];
+        Object[] bucketValues = values[bucket];
+        int count = counts[bucket];
+        long minimumKey = bucketKeys[0];
+
+        for (int i = 1; i < count; i++) {
+            if (bucketKeys[i] < minimumKey) {
+                minimumKey = bucketKeys[i];
+            }
+        }
+
+        lastKey = minimumKey;
+        counts[bucket] = 0;
+
+        // every key of this bucket now differs from last key in a lower bit only
+        for (int i = 0; i < count; i++) {
+            addToBucket(bucketOf(bucketKeys[i]), bucketKeys[i], bucketValues[i]);
+            bucketValues[i] = null;
+        }
+    }
+
+    /**
+     * Returns the bucket of specified key relative to the last key
+     */
+    private int bucketOf(long key) {
+        return Long.SIZE - Long.numberOfLeadingZeros(key ^ lastKey);
+    }
+
+    /**
+     * Appends the specified key & element in specified bucket, growing the bucket
+     * arrays if required
+     */
+    private void addToBucket(int bucket, long key, Object value) {
+        int count = counts[bucket];
+
+        if (keys[bucket] == null) {
+            keys[bucket] = new long[DEFAULT_BUCKET_CAPACITY];
+            values[bucket] = new Object[DEFAULT_BUCKET_CAPACITY];
+        } else if (count == keys[bucket].length) {
+            int newCapacity = CapacityPolicy.DOUBLING.grow(count, count + 1);
+            keys[bucket] = Arrays.copyOf(keys[bucket], newCapacity);
+            values[bucket] = Arrays.copyOf(values[bucket], newCapacity);
+        }
+
+        keys[bucket][count] = key;
+        values[bucket][count] = value;
+        counts[bucket] = count + 1;
+    }
+
+    /**
+     * Returns the string representation of RadixHeap (size and last removed key
+     * only, since elements are not kept in sorted order).
+     *
+     * @return String representation of RadixHeap
+     */
+    @Override
+    public String toString() {
+        return "RadixHeap[size=" + size + ", lastKey=" + lastKey + "]";
+    }
+}
@@ -0,0 +1,299 @@
+package com.akgarg.datastructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * Bounded single-producer/single-consumer queue implemented as a ring buffer.
+ * <p>
+ * Exactly one thread may call the producer methods ({@link #offer(Object)}, {@link #offer(Object[], int)})
+ * and exactly one (other) thread may call the consumer methods ({@link #poll()}, {@link #peek()},
+ * {@link #drain(Consumer, int)}). {@link #size()}, {@link #isEmpty()} and {@link #capacity()} can be
+ * called from any thread. Under this contract every operation is wait-free and no lock is ever taken.
+ * </p>
+ * <p>
+ * Indices are published with release stores ({@link VarHandle#setRelease}, the lazySet of
+ * <code>AtomicLong</code>) and read with acquire loads. The producer keeps a cached snapshot of the
+ * consumer index (and the consumer of the producer index), so the cache line owned by the other thread
+ * is only read when the cached snapshot says the queue looks full (or empty). Each index and its snapshot
+ * live in a padded holder, so producer and consumer never write to the same cache line.
+ * </p>
+ * <p>Null elements are not allowed. Capacity is rounded up to the next power of two.</p>
+ *
+ * @param <E> the type of elements to store in this queue (class type only)
+ * @author Akhilesh Garg
+ */
+public class SpscQueue<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final VarHandle INDEX;
+
+    static {
+        try {
+            INDEX = MethodHandles.lookup().findVarHandle(PaddedIndex.class, "index", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // ring buffer holding the elements
+    private final Object[] buffer;
+
+    // mask used to map a position to its slot (buffer.length - 1)
+    private final int mask;
+
+    // producer index (next position to write) and cached snapshot of the consumer index
+    private final PaddedIndex producer = new PaddedIndex();
+
+    // consumer index (next position to read) and cached snapshot of the producer index
+    private final PaddedIndex consumer = new PaddedIndex();
+
+
+    /**
+     * Creates an empty queue which can hold at least the given number of elements.
+     *
+     * @param capacity minimum capacity of the queue (rounded up to a power of two).
+     * @throws IllegalArgumentException if capacity is less than 1 or greater than 2^30.
+     */
+    public SpscQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+
+        int actualCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[actualCapacity];
+        this.mask = actualCapacity - 1;
+    }
+
+
+    /**
+     * Inserts the specified element at the tail of the queue (producer thread only).
+     *
+     * @param element element to append in the queue.
+     * @return true if element is inserted or false if queue is full.
+     * @throws NullPointerException if element provided is null.
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("null insertion is not allowed");
+        }
+
+        long tail = producer.index;
+
+        if (tail - producer.cache >= buffer.length) {
+            producer.cache = (long) INDEX.getAcquire(consumer);
+
+            if (tail - producer.cache >= buffer.length) {
+                return false;
+            }
+        }
+
+        buffer[(int) tail & mask] = element;
+        INDEX.setRelease(producer, tail + 1);
+        return true;
+    }
+
+
+    /**
+     * Inserts the first <code>count</code> elements of the given array at the tail of the queue,
+     * publishing them all with a single release store (producer thread only).
+     * <p>If an element which would be inserted is null, the elements before it are still inserted and
+     * published before the exception is thrown.</p>
+     *
+     * @param elements array of elements to insert.
+     * @param count    number of elements of the array to insert.
+     * @return number of elements inserted (less than count if queue got full).
+     * @throws NullPointerException      if array or any element that would be inserted is null.
+     * @throws IndexOutOfBoundsException if count is negative or greater than array length.
+     */
+    public int offer(E[] elements, int count) {
+        if (count < 0 || count > elements.length) {
+            throw new IndexOutOfBoundsException("Invalid count " + count);
+        }
+
+        long tail = producer.index;
+        long free = buffer.length - (tail - producer.cache);
+
+        if (free < count) {
+            producer.cache = (long) INDEX.getAcquire(consumer);
+            free = buffer.length - (tail - producer.cache);
+        }
+
+        int inserted = (int) Math.min(free, count);
+        boolean nullFound = false;
+
+        for (int i = 0; i < inserted; i++) {
+            if (elements[i] == null) {
+                inserted = i;
+                nullFound = true;
+                break;
+            }
+            buffer[(int) (tail + i) & mask] = elements[i];
+        }
+
+        if (inserted > 0) {
+            INDEX.setRelease(producer, tail + inserted);
+        }
+
+        // elements which didn't fit in the queue are never inspected
+        if (nullFound) {
+            throw new NullPointerException("null insertion is not allowed");
+        }
+
+        return inserted;
+    }
+
+
+    /**
+     * Removes and returns the head of the queue (consumer thread only).
+     *
+     * @return head element of the queue or null if queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long head = consumer.index;
+
+        if (head >= consumer.cache) {
+            consumer.cache = (long) INDEX.getAcquire(producer);
+
+            if (head >= consumer.cache) {
+                return null;
+            }
+        }
+
+        int slot = (int) head & mask;
+        E element = (E) buffer[slot];
+        buffer[slot] = null;
+        INDEX.setRelease(consumer, head + 1);
+        return element;
+    }
+
+
+    /**
+     * Returns the head of the queue without removing it (consumer thread only).
+     *
+     * @return head element of the queue or null if queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long head = consumer.index;
+
+        if (head >= consumer.cache) {
+            consumer.cache = (long) INDEX.getAcquire(producer);
+
+            if (head >= consumer.cache) {
+                return null;
+            }
+        }
+
+        return (E) buffer[(int) head & mask];
+    }
+
+
+    /**
+     * Removes up to <code>limit</code> elements from the head of the queue and passes them to the given
+     * action, publishing the new head with a single release store (consumer thread only).
+     *
+     * @param action action to perform on every removed element.
+     * @param limit  maximum number of elements to remove.
+     * @return number of elements removed.
+     * @throws NullPointerException if action is null.
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> action, int limit) {
+        if (action == null) {
+            throw new NullPointerException("Action can't be null");
+        }
+
+        long head = consumer.index;
+        long available = consumer.cache - head;
+
+        if (available < limit) {
+            consumer.cache = (long) INDEX.getAcquire(producer);
+            available = consumer.cache - head;
+        }
+
+        int count = (int) Math.min(available, Math.max(limit, 0));
+
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (head + i) & mask;
+            E element = (E) buffer[slot];
+            buffer[slot] = null;
+
+            try {
+                action.accept(element);
+            } catch (RuntimeException | Error e) {
+                INDEX.setRelease(consumer, head + i + 1);
+                throw e;
+            }
+        }
+
+        if (count > 0) {
+            INDEX.setRelease(consumer, head + count);
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Returns the current number of elements in the queue (any thread).
+     * <p>Value is a snapshot and may be stale by the time it is used.</p>
+     *
+     * @return current size of queue.
+     */
+    public int size() {
+        long head = (long) INDEX.getAcquire(consumer);
+        long tail = (long) INDEX.getAcquire(producer);
+        long size = tail - head;
+
+        return (int) Math.max(0, Math.min(size, buffer.length));
+    }
+
+
+    /**
+     * Determines if queue is empty or not (any thread).
+     *
+     * @return true if queue is empty or false otherwise.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     *
+     * @return capacity of queue (a power of two).
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+
+    /**
+     * Returns the string representation of this queue (size and capacity only, since elements are
+     * owned by the consumer thread).
+     *
+     * @return String representation of this queue.
+     */
+    @Override
+    public String toString() {
+        return "SpscQueue[size=" + size() + ", capacity=" + capacity() + "]";
+    }
+
+
+    /**
+     * Index owned by one thread together with its cached snapshot of the other thread's index.
+     * <p>Padding fields keep the hot fields of producer and consumer on separate cache lines.</p>
+     */
+    @SuppressWarnings("unused")
+    private static final class PaddedIndex {
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+        private long index;
+        private long cache;
+        private long p10, p11, p12, p13, p14, p15, p16, p17;
+    }
+}
@@ -0,0 +1,442 @@
+package com.akgarg.datastructures;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical timing wheel used to schedule and expire a large number of timeouts.
+ * <p>
+ * Time is divided in ticks of fixed duration. The wheel has a number of levels of 64 slots each:
+ * level 0 covers the next 64 ticks with one slot per tick, level 1 covers the next 64<sup>2</sup> ticks
+ * with one slot per 64 ticks and so on. When the lower level completes a rotation, the timeouts of the
+ * next slot of the upper level are cascaded down. Timeouts beyond the range of the top level are kept in a
+ * {@link PriorityQueue} ordered by deadline and moved into the wheel when they come in range.
+ * </p>
+ * <p>
+ * {@link #schedule} and {@link #cancel} take constant time (timeouts in a slot form an intrusive double
+ * linked list, so cancellation simply unlinks the node). Cancelled overflow timeouts are discarded lazily
+ * when they reach the head of the overflow queue.
+ * </p>
+ * <p>
+ * Time is read from an injectable clock (any monotonic {@link LongSupplier}, e.g.
+ * <code>System::nanoTime</code>), so the wheel can be driven by a fake clock in tests. Timeouts never fire
+ * early: deadlines are rounded up to the next tick.
+ * </p>
+ * <p>This implementation is not synchronized.</p>
+ *
+ * @param <T> the type of tasks scheduled in this wheel
+ * @author Akhilesh Garg
+ */
+public class TimerWheel<T> {
+
+    // number of bits used to index the slots of a level
+    private static final int WHEEL_BITS = 6;
+
+    // number of slots in every level
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+
+    // mask used to find slot index of a tick
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    // default number of levels (2^24 ticks before using the overflow queue)
+    private static final int DEFAULT_LEVELS = 4;
+
+    // clock used to read current time
+    private final LongSupplier clock;
+
+    // duration of one tick in clock units
+    private final long tickDuration;
+
+    // time of tick 0 in clock units
+    private final long startTime;
+
+    // number of ticks covered by the whole wheel
+    private final long wheelRange;
+
+    // sentinel nodes of every slot of every level
+    private final Timeout<T>[][] wheels;
+
+    // timeouts beyond the range of the wheel ordered by deadline
+    private final PriorityQueue<Timeout<T>> overflow;
+
+    // expired tasks not yet returned by advance
+    private final Queue<T> expired;
+
+    // last processed tick
+    private long currentTick;
+
+    // number of pending (scheduled, not cancelled and not expired) timeouts
+    private int size;
+
+    // number of timeouts linked in the wheel slots (excluding overflow queue)
+    private int wheelCount;
+
+
+    /**
+     * Creates a timing wheel with default number of levels.
+     *
+     * @param tickDuration duration of one tick in clock units.
+     * @param clock        clock used to read current time.
+     * @throws IllegalArgumentException if tick duration is less than 1.
+     * @throws NullPointerException     if clock is null.
+     */
+    public TimerWheel(long tickDuration, LongSupplier clock) {
+        this(tickDuration, DEFAULT_LEVELS, clock);
+    }
+
+
+    /**
+     * Creates a timing wheel with given number of levels.
+     *
+     * @param tickDuration duration of one tick in clock units.
+     * @param levels       number of levels of the wheel (1 to 10).
+     * @param clock        clock used to read current time.
+     * @throws IllegalArgumentException if tick duration is less than 1 or levels is out of range.
+     * @throws NullPointerException     if clock is null.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimerWheel(long tickDuration, int levels, LongSupplier clock) {
+        if (tickDuration < 1) {
+            throw new IllegalArgumentException("Invalid tick duration " + tickDuration);
+        }
+
+        if (levels < 1 || levels * WHEEL_BITS >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Invalid number of levels " + levels);
+        }
+
+        if (clock == null) {
+            throw new NullPointerException("Clock can't be null");
+        }
+
+        this.clock = clock;
+        this.tickDuration = tickDuration;
+        this.startTime = clock.getAsLong();
+        this.wheelRange = 1L << (levels * WHEEL_BITS);
+        this.wheels = new Timeout[levels][WHEEL_SIZE];
+        this.overflow = new PriorityQueue<>();
+        this.expired = new Queue<>();
+
+        for (Timeout<T>[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                Timeout<T> sentinel = new Timeout<>(null, 0);
+                sentinel.previous = sentinel;
+                sentinel.next = sentinel;
+                wheel[i] = sentinel;
+            }
+        }
+    }
+
+
+    /**
+     * Schedules the given task to expire after the given delay.
+     *
+     * @param task  task to schedule.
+     * @param delay delay in clock units (negative delay is treated as 0).
+     * @return handle which can be used to cancel the timeout.
+     * @throws NullPointerException if task is null.
+     */
+    public Timeout<T> schedule(T task, long delay) {
+        if (task == null) {
+            throw new NullPointerException("Task can't be null");
+        }
+
+        long elapsed = clock.getAsLong() - startTime + Math.max(delay, 0);
+        if (elapsed < 0) {
+            elapsed = Long.MAX_VALUE;
+        }
+
+        long deadline = elapsed / tickDuration + (elapsed % tickDuration == 0 ? 0 : 1);
+        Timeout<T> timeout = new Timeout<>(task, Math.max(deadline, currentTick + 1));
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+
+    /**
+     * Cancels the given timeout so that its task never expires.
+     *
+     * @param timeout handle returned by {@link #schedule}.
+     * @return true if timeout was pending and is cancelled, false if it already expired or was cancelled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.state != Timeout.PENDING) {
+            return false;
+        }
+
+        timeout.state = Timeout.CANCELLED;
+
+        if (timeout.next != null) {
+            unlink(timeout);
+            wheelCount--;
+        }
+
+        size--;
+        return true;
+    }
+
+
+    /**
+     * Advances the wheel to the current time of the clock and returns all expired tasks.
+     *
+     * @return expired tasks in order of expiry (empty list if none expired).
+     */
+    public ArrayList<T> advance() {
+        return advance(clock.getAsLong(), Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Advances the wheel to the given time and returns all expired tasks.
+     *
+     * @param now current time in clock units.
+     * @return expired tasks in order of expiry (empty list if none expired).
+     */
+    public ArrayList<T> advance(long now) {
+        return advance(now, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Advances the wheel to the given time and returns at most the given number of expired tasks.
+     * Expired tasks which are not returned are kept and returned first by the next call.
+     *
+     * @param now      current time in clock units.
+     * @param maxTasks maximum number of tasks to return.
+     * @return expired tasks in order of expiry (empty list if none expired).
+     * @throws IllegalArgumentException if maxTasks is less than 1.
+     */
+    public ArrayList<T> advance(long now, int maxTasks) {
+        if (maxTasks < 1) {
+            throw new IllegalArgumentException("Invalid maximum number of tasks " + maxTasks);
+        }
+
+        long targetTick = (now - startTime) / tickDuration;
+
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                break;
+            }
+
+            if (wheelCount == 0) {
+                // nothing can expire before the first overflow timeout comes in range of the wheel
+                Timeout<T> next = nextOverflow();
+                long jumpTo = next == null ? targetTick : Math.min(targetTick, next.deadline - wheelRange);
+                currentTick = Math.max(currentTick, jumpTo);
+                if (currentTick >= targetTick) {
+                    break;
+                }
+            }
+
+            currentTick++;
+            tick();
+        }
+
+        ArrayList<T> result = new ArrayList<>(Math.max(1, Math.min(expired.size(), maxTasks)));
+
+        while (!expired.isEmpty() && result.size() < maxTasks) {
+            result.add(expired.poll());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Returns the number of pending timeouts (scheduled, not cancelled and not yet expired).
+     *
+     * @return number of pending timeouts.
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    /**
+     * Checks if there are no pending timeouts and no expired tasks waiting to be returned.
+     *
+     * @return true if wheel is empty or false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0 && expired.isEmpty();
+    }
+
+
+    /**
+     * Returns the duration of one tick in clock units.
+     *
+     * @return tick duration.
+     */
+    public long tickDuration() {
+        return this.tickDuration;
+    }
+
+
+    /**
+     * Processes the current tick: cascades upper levels whose lower level completed a rotation,
+     * moves overflow timeouts which came in range and expires the current slot of level 0.
+     */
+    private void tick() {
+        int level = 1;
+
+        while (level < wheels.length && (currentTick & ((1L << (level * WHEEL_BITS)) - 1)) == 0) {
+            level++;
+        }
+
+        for (int i = level - 1; i >= 1; i--) {
+            cascade(wheels[i][(int) (currentTick >>> (i * WHEEL_BITS)) & WHEEL_MASK]);
+        }
+
+        Timeout<T> next;
+        while ((next = nextOverflow()) != null && next.deadline - currentTick < wheelRange) {
+            overflow.poll();
+            insert(next);
+        }
+
+        Timeout<T> sentinel = wheels[0][(int) currentTick & WHEEL_MASK];
+        Timeout<T> node = sentinel.next;
+
+        while (node != sentinel) {
+            Timeout<T> following = node.next;
+            node.previous = null;
+            node.next = null;
+            node.state = Timeout.EXPIRED;
+            expired.add(node.task);
+            wheelCount--;
+            size--;
+            node = following;
+        }
+
+        sentinel.previous = sentinel;
+        sentinel.next = sentinel;
+    }
+
+
+    /**
+     * Re-inserts all timeouts of the given slot according to their remaining delay.
+     */
+    private void cascade(Timeout<T> sentinel) {
+        Timeout<T> node = sentinel.next;
+        sentinel.previous = sentinel;
+        sentinel.next = sentinel;
+
+        while (node != sentinel) {
+            Timeout<T> following = node.next;
+            node.previous = null;
+            node.next = null;
+            wheelCount--;
+            insert(node);
+            node = following;
+        }
+    }
+
+
+    /**
+     * Inserts the given timeout in the slot matching its deadline or in the overflow queue.
+     * Timeouts whose deadline is not after the current tick go to the current slot of level 0.
+     */
+    private void insert(Timeout<T> timeout) {
+        long delta = timeout.deadline - currentTick;
+
+        if (delta >= wheelRange) {
+            overflow.offer(timeout);
+            return;
+        }
+
+        int level = 0;
+        long deadline = Math.max(timeout.deadline, currentTick);
+
+        while (delta >= (1L << ((level + 1) * WHEEL_BITS))) {
+            level++;
+        }
+
+        Timeout<T> sentinel = wheels[level][(int) (deadline >>> (level * WHEEL_BITS)) & WHEEL_MASK];
+        timeout.previous = sentinel.previous;
+        timeout.next = sentinel;
+        sentinel.previous.next = timeout;
+        sentinel.previous = timeout;
+        wheelCount++;
+    }
+
+
+    /**
+     * Returns the first pending timeout of the overflow queue after discarding cancelled timeouts.
+     */
+    private Timeout<T> nextOverflow() {
+        Timeout<T> next;
+
+        while ((next = overflow.peek()) != null && next.state == Timeout.CANCELLED) {
+            overflow.poll();
+        }
+
+        return next;
+    }
+
+
+    /**
+     * Removes the given timeout from its slot.
+     */
+    private static <T> void unlink(Timeout<T> timeout) {
+        timeout.previous.next = timeout.next;
+        timeout.next.previous = timeout.previous;
+        timeout.previous = null;
+        timeout.next = null;
+    }
+
+
+    /**
+     * Handle of a scheduled task returned by {@link TimerWheel#schedule}.
+     *
+     * @param <T> the type of task
+     */
+    public static final class Timeout<T> implements Comparable<Timeout<T>> {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final T task;
+        private final long deadline;
+        private int state;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(T task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+            this.state = PENDING;
+        }
+
+        /**
+         * Returns the scheduled task.
+         */
+        public T task() {
+            return this.task;
+        }
+
+        /**
+         * Returns the tick at which this timeout expires.
+         */
+        public long deadlineTick() {
+            return this.deadline;
+        }
+
+        /**
+         * Returns true if this timeout was cancelled.
+         */
+        public boolean isCancelled() {
+            return this.state == CANCELLED;
+        }
+
+        /**
+         * Returns true if this timeout expired.
+         */
+        public boolean isExpired() {
+            return this.state == EXPIRED;
+        }
+
+        @Override
+        public int compareTo(Timeout<T> other) {
+            return Long.compare(this.deadline, other.deadline);
+        }
+    }
+}
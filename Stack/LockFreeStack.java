@@ -0,0 +1,250 @@
+package com.akgarg.datastructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lock-free stack (Treiber stack) with elimination backoff.
+ * <p>
+ * Elements are kept in a singly linked list whose head is replaced with a single CAS by {@link #push} and
+ * {@link #pop}; no lock is ever taken, so a thread delayed in the middle of an operation never blocks others.
+ * </p>
+ * <p>
+ * When the CAS on the head fails because of contention, the operation backs off to a small elimination array
+ * instead of retrying at once: a pushing thread publishes its node in a random slot for a short time and a popping
+ * thread which finds a node in a slot takes it with a CAS. Such a push/pop pair cancels out without touching the
+ * head at all, so the head is less contended the more threads use the stack.
+ * </p>
+ * <p>Behaviour of {@link #push}, {@link #pop}, {@link #peek} and {@link #isEmpty} matches {@link Stack}.
+ * Null elements are not allowed.</p>
+ *
+ * @param <E> the type of elements to store in this stack (class type only)
+ * @author Akhilesh Garg
+ */
+public class LockFreeStack<E> {
+
+    // Number of spins a pushing thread waits in the elimination array for a popping thread
+    private static final int ELIMINATION_SPINS = 64;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(LockFreeStack.class, "head", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Top node of the stack (null if stack is empty)
+    private volatile Node<E> head;
+
+    // Slots in which pushing threads offer their node to popping threads under contention
+    private final Object[] eliminationArray;
+
+
+    /**
+     * Creates an empty stack with an elimination array sized for the number of available processors.
+     */
+    public LockFreeStack() {
+        this(Math.max(2, Math.min(Runtime.getRuntime().availableProcessors(), 16)));
+    }
+
+
+    /**
+     * Creates an empty stack with given number of elimination slots.
+     *
+     * @param eliminationSlots number of slots of the elimination array
+     * @throws IllegalArgumentException if number of slots is less than 1
+     */
+    public LockFreeStack(int eliminationSlots) {
+        if (eliminationSlots <= 0) {
+            throw new IllegalArgumentException("Invalid elimination slots " + eliminationSlots);
+        }
+
+        this.eliminationArray = new Object[eliminationSlots];
+    }
+
+
+    /**
+     * Method to insert new element at the top end of this stack.
+     *
+     * @param element element to insert in the stack
+     * @return element added in stack
+     * @throws NullPointerException if element is null
+     */
+    public E push(E element) {
+        if (element == null) {
+            throw new NullPointerException("null insertion is not allowed");
+        }
+
+        Node<E> node = new Node<>(element);
+
+        while (true) {
+            Node<E> top = head;
+            node.next = top;
+
+            if (HEAD.compareAndSet(this, top, node) || eliminatePush(node)) {
+                return element;
+            }
+        }
+    }
+
+
+    /**
+     * Method to remove the element present at top of the stack.
+     *
+     * @return element at the top of the stack
+     * @throws EmptyStackException if this stack is empty
+     */
+    public E pop() {
+        E element = poll();
+
+        if (element == null) {
+            throw new EmptyStackException();
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Method to remove the element present at top of the stack without throwing if stack is empty.
+     *
+     * @return element at the top of the stack or null if stack is empty
+     */
+    public E poll() {
+        while (true) {
+            Node<E> top = head;
+
+            if (top == null) {
+                return null;
+            }
+
+            if (HEAD.compareAndSet(this, top, top.next)) {
+                return top.item;
+            }
+
+            Node<E> eliminated = eliminatePop();
+
+            if (eliminated != null) {
+                return eliminated.item;
+            }
+        }
+    }
+
+
+    /**
+     * Method to return the element present at the top of the stack without deleting the element from stack.
+     *
+     * @return element presented at the top of the stack
+     * @throws EmptyStackException if stack is empty
+     */
+    public E peek() {
+        Node<E> top = head;
+
+        if (top == null) {
+            throw new EmptyStackException();
+        }
+
+        return top.item;
+    }
+
+
+    /**
+     * Method to check if stack is empty or not.
+     * <p>Value is a snapshot and may be stale by the time it is used.</p>
+     *
+     * @return true if stack is empty else false
+     */
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+
+    /**
+     * Method to count the elements of the stack by traversing it (O(n)).
+     * <p>Value is a snapshot and may be stale by the time it is used.</p>
+     *
+     * @return current size of stack
+     */
+    public int size() {
+        int size = 0;
+
+        for (Node<E> node = head; node != null && size < Integer.MAX_VALUE; node = node.next) {
+            size++;
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Method to return the string representation of stack (size only, since elements may be removed concurrently).
+     *
+     * @return String representation of the stack
+     */
+    @Override
+    public String toString() {
+        return "LockFreeStack[size=" + size() + "]";
+    }
+
+
+    /**
+     * Private method to offer the node in a random elimination slot and wait shortly for a popping thread to take it.
+     *
+     * @param node node to push
+     * @return true if a popping thread took the node (push is done), false if push must be retried on the head
+     */
+    private boolean eliminatePush(Node<E> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length);
+
+        if (!SLOT.compareAndSet(eliminationArray, slot, null, node)) {
+            return false;
+        }
+
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (SLOT.getVolatile(eliminationArray, slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+
+        // withdraw the offer; if it fails a popping thread took the node in the meantime
+        return !SLOT.compareAndSet(eliminationArray, slot, node, null);
+    }
+
+
+    /**
+     * Private method to take a node offered by a pushing thread in a random elimination slot.
+     *
+     * @return node taken from the elimination array or null if none was offered in the chosen slot
+     */
+    @SuppressWarnings("unchecked")
+    private Node<E> eliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length);
+        Object offered = SLOT.getVolatile(eliminationArray, slot);
+
+        if (offered != null && SLOT.compareAndSet(eliminationArray, slot, offered, null)) {
+            return (Node<E>) offered;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Node of the linked list holding the elements (next is written before the node is published).
+     */
+    private static final class Node<E> {
+        private final E item;
+        private Node<E> next;
+
+        private Node(E item) {
+            this.item = item;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.akgarg.datastructures;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.EmptyStackException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -29,14 +32,55 @@ public class Stack<E> implements Iterable<E> {
     // Current capacity of the stack
     private int capacity;
 
+    // Capacity below which the stack is never shrunk automatically
+    private final int initialCapacity;
+
+    // Policy used to grow and shrink the stack array
+    private final CapacityPolicy capacityPolicy;
+
+    // Number of structural modifications, used by views to fail fast
+    private int modCount;
+
+    // Policy deciding what clear() does with the stack array
+    private ClearPolicy clearPolicy = ClearPolicy.RELEASE;
+
+    // End of slots which may still refer to cleared elements (SCRATCH clear policy only)
+    private int staleEnd;
+
+    // Metrics shared by all stacks (recorded only if enabled)
+    private static final ContainerMetrics METRICS = ContainerMetrics.register("Stack");
+
 
     /**
      * Creates an empty stack and initialize all required fields to their respective default values.
      */
     public Stack() {
-        this.array = new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY, CapacityPolicy.DOUBLING);
+    }
+
+
+    /**
+     * Creates an empty stack with given initial capacity and capacity policy.
+     *
+     * @param initialCapacity initial capacity of the stack
+     * @param capacityPolicy  policy used to grow and shrink the stack
+     * @throws IllegalArgumentException if initial capacity is less than 1
+     * @throws NullPointerException     if capacity policy is null
+     */
+    public Stack(int initialCapacity, CapacityPolicy capacityPolicy) {
+        if (initialCapacity <= 0 || initialCapacity > CapacityPolicy.MAX_ARRAY_CAPACITY) {
+            throw new IllegalArgumentException("Invalid initial capacity " + initialCapacity);
+        }
+
+        if (capacityPolicy == null) {
+            throw new NullPointerException("Capacity policy can't be null");
+        }
+
+        this.array = new Object[initialCapacity];
         this.size = 0;
-        this.capacity = DEFAULT_CAPACITY;
+        this.capacity = initialCapacity;
+        this.initialCapacity = initialCapacity;
+        this.capacityPolicy = capacityPolicy;
     }
 
 
@@ -47,12 +91,17 @@ public class Stack<E> implements Iterable<E> {
      * @return element added in stack
      */
     public E add(E element) {
-        if (size() == capacity() - 1) {
-            this.array = getNewStackArray();
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        if (size() == capacity()) {
+            this.array = getNewStackArray(size() + 1);
         }
 
         this.array[size] = element;
         this.size++;
+        this.modCount++;
 
         return element;
     }
@@ -70,8 +119,12 @@ public class Stack<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("Invalid index " + index);
         }
 
-        if (size() == this.capacity - 1) {
-            this.array = getNewStackArray();
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
+        if (size() == this.capacity) {
+            this.array = getNewStackArray(size() + 1);
         }
 
         for (int i = size(); i > index; i--) {
@@ -79,7 +132,16 @@ public class Stack<E> implements Iterable<E> {
         }
 
         this.array[index] = element;
+        event.record("Stack", "add", index, size(), size() - index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordShifts(size() - index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
         this.size++;
+        this.modCount++;
     }
 
 
@@ -94,7 +156,7 @@ public class Stack<E> implements Iterable<E> {
 
 
     /**
-     * Method to remove the element present at top of the stack.
+     * Method to remove the element present at top of the stack in constant time.
      *
      * @return element at the top of the stack
      * @throws EmptyStackException if this stack is empty
@@ -104,7 +166,17 @@ public class Stack<E> implements Iterable<E> {
             throw new EmptyStackException();
         }
 
-        return remove(size - 1);
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
+        @SuppressWarnings("unchecked")
+        E data = (E) this.array[size - 1];
+        this.array[size - 1] = null;
+        size--;
+        modCount++;
+        shrinkIfRequired();
+        return data;
     }
 
 
@@ -125,14 +197,33 @@ public class Stack<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("Invalid index " + index);
         }
 
+        // removing the top element shifts nothing
+        if (index == size() - 1) {
+            return pop();
+        }
+
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        LinearOperationEvent event = new LinearOperationEvent();
+        event.begin();
+
         E data = (E) this.array[index];
 
         for (int i = index; i < size() - 1; i++) {
             this.array[i] = this.array[i + 1];
         }
 
-        this.array[size] = null;
+        event.record("Stack", "remove", index, size(), size() - 1 - index);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+            METRICS.recordShifts(size() - 1 - index);
+            METRICS.recordLinearOperation(startNanos);
+        }
+
+        this.array[size - 1] = null;
         size--;
+        modCount++;
+        shrinkIfRequired();
         return data;
     }
 
@@ -160,6 +251,11 @@ public class Stack<E> implements Iterable<E> {
         if (isEmpty()) {
             throw new EmptyStackException();
         }
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         return (E) this.array[size - 1];
     }
 
@@ -216,6 +312,10 @@ public class Stack<E> implements Iterable<E> {
             throw new IndexOutOfBoundsException("Index " + index + " out of range");
         }
 
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordOperation();
+        }
+
         if (this.array[index] == null) {
             return null;
         }
@@ -224,13 +324,71 @@ public class Stack<E> implements Iterable<E> {
     }
 
 
+    /**
+     * Method to get a view of the elements [fromIndex, toIndex) of the stack (from bottom to top) without copying them.
+     * Changes made with {@link ArrayView#set} are written to this stack, and the view fails fast
+     * once this stack is structurally modified (push, pop, remove, clear...).
+     *
+     * @param fromIndex index of first element of the view (inclusive)
+     * @param toIndex   index after the last element of the view (exclusive)
+     * @return view over the range
+     * @throws IndexOutOfBoundsException if fromIndex is less than 0, toIndex is greater than size or fromIndex is greater than toIndex
+     */
+    public ArrayView<E> subList(int fromIndex, int toIndex) {
+        return new ArrayView<>(new ArrayView.Source() {
+            @Override
+            Object[] array() {
+                return array;
+            }
+
+            @Override
+            int modCount() {
+                return modCount;
+            }
+
+            @Override
+            int size() {
+                return size;
+            }
+        }, fromIndex, toIndex);
+    }
+
+
+    /**
+     * Method to get a view of given number of elements of the stack starting from given offset (see {@link #subList}).
+     *
+     * @param offset index of first element of the view
+     * @param length number of elements of the view
+     * @return view over the range
+     * @throws IndexOutOfBoundsException if range is not within the stack
+     */
+    public ArrayView<E> slice(int offset, int length) {
+        return subList(offset, offset + length);
+    }
+
+
     /**
      * Method to remove the all elements from the stack and set the size of stack to 0.
+     * <p>The stack array is replaced, reused or left as it is according to the {@link #clearPolicy()}.</p>
      */
     public void clear() {
-        this.array = new Object[DEFAULT_CAPACITY];
+        if (this.clearPolicy == ClearPolicy.SCRATCH) {
+            this.staleEnd = Math.max(this.staleEnd, this.size);
+        } else if (this.clearPolicy == ClearPolicy.RETAIN) {
+            Arrays.fill(this.array, 0, Math.max(this.size, this.staleEnd), null);
+            this.staleEnd = 0;
+        } else {
+            this.array = new Object[this.initialCapacity];
+            this.capacity = this.initialCapacity;
+            this.staleEnd = 0;
+        }
+
         this.size = 0;
-        System.gc();
+        this.modCount++;
+
+        if (this.clearPolicy == ClearPolicy.RELEASE) {
+            System.gc();
+        }
     }
 
 
@@ -244,12 +402,13 @@ public class Stack<E> implements Iterable<E> {
 
 
     /**
-     * Returns an array containing all elements of the stack.
+     * Returns a new array containing all elements of the stack (from bottom to top, length equals to size).
      *
      * @return array representation of stack
      */
+    @SuppressWarnings("unchecked")
     public E[] toArray() {
-        return (E[]) this.array;
+        return (E[]) Arrays.copyOf(this.array, this.size);
     }
 
 
@@ -274,20 +433,180 @@ public class Stack<E> implements Iterable<E> {
 
 
     /**
-     * Private method to get new array of double size of previous size with all elements of previous stack array when previous array is completely filled.
+     * Method to increase the capacity of the stack, if necessary, so that it can hold at least
+     * the specified number of elements without growing.
+     *
+     * @param minCapacity desired minimum capacity
+     * @throws OutOfMemoryError if desired capacity exceeds maximum array capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.capacity) {
+            this.array = getNewStackArray(minCapacity);
+        }
+    }
+
+
+    /**
+     * Method to trim the capacity of the stack to its current size (at least 1).
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(size(), 1);
+        if (newCapacity < this.capacity) {
+            this.array = resize(newCapacity);
+        }
+    }
+
+
+    /**
+     * Method to retrieve the metrics shared by all stacks.
+     * Metrics are recorded only if {@link ContainerMetrics#ENABLED} is true.
+     *
+     * @return metrics of Stack type
+     */
+    public static ContainerMetricsMXBean metrics() {
+        return METRICS;
+    }
+
+
+    /**
+     * Method to retrieve the capacity policy of the stack.
+     *
+     * @return policy used to grow and shrink the stack
+     */
+    public CapacityPolicy capacityPolicy() {
+        return this.capacityPolicy;
+    }
+
+
+    /**
+     * Method to set what {@link #clear()} does with the stack array (see {@link ClearPolicy} for GC implications).
+     * Leaving {@link ClearPolicy#SCRATCH} nulls the slots still referring to cleared elements.
      *
+     * @param clearPolicy new clear policy
+     * @throws NullPointerException if clear policy is null
+     */
+    public void setClearPolicy(ClearPolicy clearPolicy) {
+        if (clearPolicy == null) {
+            throw new NullPointerException("Clear policy can't be null");
+        }
+
+        if (clearPolicy != ClearPolicy.SCRATCH) {
+            if (this.staleEnd > this.size) {
+                Arrays.fill(this.array, this.size, this.staleEnd, null);
+            }
+            this.staleEnd = 0;
+        }
+
+        this.clearPolicy = clearPolicy;
+    }
+
+
+    /**
+     * Method to retrieve the clear policy of the stack.
+     *
+     * @return policy deciding what clear() does with the stack array
+     */
+    public ClearPolicy clearPolicy() {
+        return this.clearPolicy;
+    }
+
+
+    /**
+     * Private method to get new larger array (according to capacity policy) with all elements of previous stack array when previous array is completely filled.
+     *
+     * @param minCapacity minimum capacity required in the new array
      * @return new array to store stack elements
+     * @throws OutOfMemoryError if required capacity exceeds maximum array capacity
      */
-    private Object[] getNewStackArray() {
-        int newCapacity = 2 * this.capacity;
-        this.capacity = newCapacity;
+    private Object[] getNewStackArray(int minCapacity) {
+        long startNanos = ContainerMetrics.ENABLED ? System.nanoTime() : 0L;
+        ResizeEvent event = new ResizeEvent();
+        event.begin();
+
+        int oldCapacity = this.capacity;
+        Object[] newArray = resize(this.capacityPolicy.grow(oldCapacity, minCapacity));
+
+        event.record("Stack", size(), oldCapacity, this.capacity);
+
+        if (ContainerMetrics.ENABLED) {
+            METRICS.recordResize(startNanos);
+        }
+
+        return newArray;
+    }
+
+
+    /**
+     * Private method to shrink the stack array after removal if capacity policy allows it.
+     */
+    private void shrinkIfRequired() {
+        int newCapacity = this.capacityPolicy.shrink(this.capacity, size(), this.initialCapacity);
+        if (newCapacity < this.capacity) {
+            this.array = resize(newCapacity);
+        }
+    }
+
+
+    /**
+     * Private method to copy all stack elements in a new array of given capacity and update the capacity.
+     *
+     * @param newCapacity capacity of new array (must not be less than size)
+     * @return new array to store stack elements
+     */
+    private Object[] resize(int newCapacity) {
         Object[] newArray = new Object[newCapacity];
-        System.arraycopy(this.array, 0, newArray, 0, this.array.length);
+        System.arraycopy(this.array, 0, newArray, 0, size());
+        this.capacity = newCapacity;
+        this.staleEnd = 0;
 
         return newArray;
     }
 
 
+    /**
+     * Method to write a compact binary snapshot of the stack to the given file (from bottom to top, file is created or truncated).
+     *
+     * @param path  file to write the snapshot to.
+     * @param codec codec used to encode the elements.
+     * @throws IOException          if an I/O error occurs.
+     * @throws NullPointerException if codec is null.
+     */
+    public void writeSnapshot(Path path, ElementCodec<? super E> codec) throws IOException {
+        Snapshot.write(path, Snapshot.STACK, size, this, codec, null);
+    }
+
+
+    /**
+     * Method to restore a stack from a snapshot written by {@link #writeSnapshot}.
+     * <p>The backing array is allocated once with room for all elements of the snapshot.</p>
+     *
+     * @param path  file to read the snapshot from.
+     * @param codec codec used to decode the elements.
+     * @param <E>   the type of elements.
+     * @return restored stack.
+     * @throws IOException          if an I/O error occurs or the file is not a stack snapshot.
+     * @throws NullPointerException if codec is null.
+     */
+    public static <E> Stack<E> readSnapshot(Path path, ElementCodec<E> codec) throws IOException {
+        try (Snapshot.Reader<E> reader = Snapshot.read(path, Snapshot.STACK, codec)) {
+            Stack<E> stack = new Stack<>();
+            int size = reader.size();
+
+            if (size > stack.capacity) {
+                stack.array = new Object[size];
+                stack.capacity = size;
+            }
+
+            for (int i = 0; i < size; i++) {
+                stack.array[i] = reader.next();
+            }
+
+            stack.size = size;
+            return stack;
+        }
+    }
+
+
     /**
      * Method to return the string representation of Stack.
      * <p>String returned is enclosed in square brackets ("[]").
@@ -343,6 +662,7 @@ public class Stack<E> implements Iterable<E> {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public E next() {
             return (E) array[index++];
         }
@@ -0,0 +1,280 @@
+package com.akgarg.datastructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Chase-Lev work-stealing deque implementation using circular array and Java Generics.
+ * <p>
+ * The deque has one <strong>owner</strong> thread which works on the <strong>bottom</strong> end like a
+ * {@link Stack} ({@link #push}, {@link #pop}, {@link #peek}) and any number of <strong>thief</strong>
+ * threads which take the oldest elements from the <strong>top</strong> end with {@link #steal}.
+ * </p>
+ * <p>
+ * No lock is used: the owner only synchronizes with thieves (with a single CAS) when it pops the last
+ * element, and thieves race with each other with a CAS on the top index. When the array is full the owner
+ * copies the elements in an array of double capacity and publishes it; thieves which still read the old
+ * array get the same elements from it, so growing never blocks them.
+ * </p>
+ * <p>
+ * Unlike {@link Stack}, {@link #pop} and {@link #peek} return null instead of throwing
+ * {@link java.util.EmptyStackException} when the deque is empty: thieves can empty the deque at any time,
+ * so an empty deque is an expected result of a race rather than a usage error. Null elements are not
+ * allowed, so null always means "no element".
+ * </p>
+ * <p>
+ * A successful {@link #steal} doesn't null the slot of the stolen element: once the top index moved past
+ * it, the owner may already reuse the slot for a new element, which the thief must not erase. The array
+ * therefore keeps a reference to up to <code>capacity</code> stolen elements until the owner overwrites
+ * their slots with new elements or grows the array (only live elements are copied). Elements removed by
+ * {@link #pop} are always released.
+ * </p>
+ *
+ * @param <E> the type of elements to store in this deque (class type only)
+ * @author Akhilesh Garg
+ */
+public class WorkStealingDeque<E> {
+
+    // Default capacity of deque (must be power of two)
+    private static final int DEFAULT_CAPACITY = 32;
+
+    // Maximum capacity of deque
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+    private static final VarHandle ARRAY;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingDeque.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingDeque.class, "bottom", long.class);
+            ARRAY = lookup.findVarHandle(WorkStealingDeque.class, "array", Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Index of the oldest element (incremented by thieves and by owner when it pops the last element)
+    private volatile long top;
+
+    // Index of the next free slot at the owner end (written by owner only)
+    private volatile long bottom;
+
+    // Circular array holding the elements (length is always a power of two, replaced by owner only)
+    private volatile Object[] array;
+
+
+    /**
+     * Creates an empty deque with default capacity.
+     */
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Creates an empty deque which can hold at least the given number of elements before growing.
+     *
+     * @param initialCapacity initial capacity of the deque (rounded up to a power of two)
+     * @throws IllegalArgumentException if initial capacity is less than 1 or greater than 2^30
+     */
+    public WorkStealingDeque(int initialCapacity) {
+        if (initialCapacity <= 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid initial capacity " + initialCapacity);
+        }
+
+        int capacity = initialCapacity == 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+        this.array = new Object[capacity];
+    }
+
+
+    /**
+     * Method to insert a new element at the bottom end of the deque (owner thread only).
+     *
+     * @param element element to insert in the deque
+     * @return element added in deque
+     * @throws NullPointerException if element is null
+     * @throws OutOfMemoryError     if deque exceeds maximum capacity
+     */
+    public E push(E element) {
+        if (element == null) {
+            throw new NullPointerException("null insertion is not allowed");
+        }
+
+        long b = (long) BOTTOM.getOpaque(this);
+        long t = (long) TOP.getAcquire(this);
+        Object[] a = (Object[]) ARRAY.getOpaque(this);
+
+        if (b - t >= a.length) {
+            a = grow(a, t, b);
+        }
+
+        SLOT.setRelease(a, (int) b & (a.length - 1), element);
+        BOTTOM.setRelease(this, b + 1);
+        return element;
+    }
+
+
+    /**
+     * Method to remove the newest element from the bottom end of the deque (owner thread only).
+     * <p>Returns null (doesn't throw like {@link Stack#pop()}) if the deque is empty or a thief took the last
+     * element first.</p>
+     *
+     * @return element removed from the deque or null if deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        long b = (long) BOTTOM.getOpaque(this) - 1;
+        Object[] a = (Object[]) ARRAY.getOpaque(this);
+        BOTTOM.setVolatile(this, b);
+        long t = (long) TOP.getVolatile(this);
+
+        if (t > b) {
+            BOTTOM.setOpaque(this, b + 1);
+            return null;
+        }
+
+        int slot = (int) b & (a.length - 1);
+        E element = (E) SLOT.getOpaque(a, slot);
+
+        if (t == b) {
+            if (!TOP.compareAndSet(this, t, t + 1)) {
+                element = null;
+            }
+            BOTTOM.setOpaque(this, b + 1);
+        }
+
+        if (element != null) {
+            SLOT.setOpaque(a, slot, null);
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Method to return the newest element at the bottom end of the deque without removing it (owner thread only).
+     *
+     * @return element at the bottom of the deque or null if deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long b = (long) BOTTOM.getOpaque(this);
+        long t = (long) TOP.getAcquire(this);
+
+        if (t >= b) {
+            return null;
+        }
+
+        Object[] a = (Object[]) ARRAY.getOpaque(this);
+        return (E) SLOT.getOpaque(a, (int) (b - 1) & (a.length - 1));
+    }
+
+
+    /**
+     * Method to remove the oldest element from the top end of the deque (any thread).
+     * <p>
+     * Returns null if the deque is empty or if another thread took the element first;
+     * callers which need to distinguish both cases can check {@link #isEmpty()} and retry.
+     * The slot of the stolen element is not nulled (see class documentation).
+     * </p>
+     *
+     * @return element removed from the deque or null
+     */
+    @SuppressWarnings("unchecked")
+    public E steal() {
+        long t = (long) TOP.getVolatile(this);
+        long b = (long) BOTTOM.getVolatile(this);
+
+        if (t >= b) {
+            return null;
+        }
+
+        Object[] a = (Object[]) ARRAY.getVolatile(this);
+        E element = (E) SLOT.getAcquire(a, (int) t & (a.length - 1));
+
+        if (element == null || !TOP.compareAndSet(this, t, t + 1)) {
+            return null;
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Method to check if deque is empty or not (any thread).
+     * <p>Value is a snapshot and may be stale by the time it is used.</p>
+     *
+     * @return true if deque is empty else false
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+
+    /**
+     * Method to retrieve the total number of elements in the deque (any thread).
+     * <p>Value is a snapshot and may be stale by the time it is used.</p>
+     *
+     * @return current size of deque
+     */
+    public int size() {
+        long t = (long) TOP.getVolatile(this);
+        long b = (long) BOTTOM.getVolatile(this);
+        long size = b - t;
+
+        return size <= 0 ? 0 : (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Method to retrieve the current capacity of the deque.
+     *
+     * @return current capacity of deque
+     */
+    public int capacity() {
+        return ((Object[]) ARRAY.getVolatile(this)).length;
+    }
+
+
+    /**
+     * Method to return the string representation of deque (size and capacity only, since elements
+     * may be removed concurrently by thieves).
+     *
+     * @return String representation of the deque
+     */
+    @Override
+    public String toString() {
+        return "WorkStealingDeque[size=" + size() + ", capacity=" + capacity() + "]";
+    }
+
+
+    /**
+     * Private method to copy the elements in range [top, bottom) in a new array of double capacity and publish it.
+     *
+     * @param oldArray current array of the deque
+     * @param t        top index read by the owner
+     * @param b        bottom index read by the owner
+     * @return new array to store deque elements
+     * @throws OutOfMemoryError if deque exceeds maximum capacity
+     */
+    private Object[] grow(Object[] oldArray, long t, long b) {
+        if (oldArray.length >= MAX_CAPACITY) {
+            throw new OutOfMemoryError("Work stealing deque exceeds maximum capacity " + MAX_CAPACITY);
+        }
+
+        Object[] newArray = new Object[oldArray.length << 1];
+        int oldMask = oldArray.length - 1;
+        int newMask = newArray.length - 1;
+
+        for (long i = t; i < b; i++) {
+            newArray[(int) i & newMask] = oldArray[(int) i & oldMask];
+        }
+
+        ARRAY.setRelease(this, newArray);
+        return newArray;
+    }
+}
@@ -0,0 +1,355 @@
+package com.akgarg.datastructures;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-size view over a range of the backing array of an array backed data structure
+ * ({@link ArrayList#subList}, {@link Stack#subList}).
+ * <p>
+ * A view copies nothing: it keeps the parent, an offset and a length, and every read and {@link #set} goes straight
+ * to the current backing array of the parent. Views of views share the same parent with the offsets added up.
+ * </p>
+ * <p>
+ * A view is fail-fast: once the parent is structurally modified (an element is added or removed, or the parent is
+ * cleared) every method of the view, and of iterators obtained from it, throws
+ * {@link ConcurrentModificationException}. {@link #set} is not a structural modification, so values written through
+ * the view are visible in the parent and vice versa.
+ * </p>
+ *
+ * @param <E> the type of elements of the parent
+ * @author Akhilesh Garg
+ */
+@SuppressWarnings("unchecked")
+public final class ArrayView<E> implements Iterable<E> {
+
+    // Access to the backing array and modification count of the parent
+    private final Source source;
+
+    // Index in the backing array of the first element of the view
+    private final int offset;
+
+    // Number of elements of the view
+    private final int length;
+
+    // Modification count of the parent when the view was created
+    private final int expectedModCount;
+
+
+    /**
+     * Creates a view of the elements [fromIndex, toIndex) of the parent accessed by given source.
+     *
+     * @param source    access to the parent.
+     * @param fromIndex index of first element of the view (inclusive).
+     * @param toIndex   index after the last element of the view (exclusive).
+     * @throws IndexOutOfBoundsException if range is not within the parent.
+     */
+    ArrayView(Source source, int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, source.size());
+
+        this.source = source;
+        this.offset = fromIndex;
+        this.length = toIndex - fromIndex;
+        this.expectedModCount = source.modCount();
+    }
+
+
+    /**
+     * Creates a view of a range of another view (same parent and expected modification count).
+     */
+    private ArrayView(ArrayView<E> parent, int fromIndex, int toIndex) {
+        this.source = parent.source;
+        this.offset = parent.offset + fromIndex;
+        this.length = toIndex - fromIndex;
+        this.expectedModCount = parent.expectedModCount;
+    }
+
+
+    /**
+     * Method to retrieve the element at specified index of the view.
+     *
+     * @param index index of the element in this view.
+     * @return element at given index.
+     * @throws IndexOutOfBoundsException       if index is less than 0 or greater than size-1.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    public E get(int index) {
+        checkForComodification();
+        checkIndex(index);
+        return (E) source.array()[offset + index];
+    }
+
+
+    /**
+     * Method to update the value of specified index (written through to the parent).
+     *
+     * @param index   index of the element in this view.
+     * @param element new element to place at index provided.
+     * @return previous value at given index.
+     * @throws IndexOutOfBoundsException       if index is less than 0 or greater than size-1.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    public E set(int index, E element) {
+        checkForComodification();
+        checkIndex(index);
+
+        Object[] array = source.array();
+        E previous = (E) array[offset + index];
+        array[offset + index] = element;
+        return previous;
+    }
+
+
+    /**
+     * Method to get a view of the elements [fromIndex, toIndex) of this view.
+     *
+     * @param fromIndex index of first element of the new view (inclusive).
+     * @param toIndex   index after the last element of the new view (exclusive).
+     * @return view backed by the same parent.
+     * @throws IndexOutOfBoundsException       if range is not within this view.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    public ArrayView<E> subList(int fromIndex, int toIndex) {
+        checkForComodification();
+        checkRange(fromIndex, toIndex, length);
+        return new ArrayView<>(this, fromIndex, toIndex);
+    }
+
+
+    /**
+     * Method to get a view of given number of elements of this view starting from given offset.
+     *
+     * @param offset index of first element of the new view.
+     * @param length number of elements of the new view.
+     * @return view backed by the same parent.
+     * @throws IndexOutOfBoundsException       if range is not within this view.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    public ArrayView<E> slice(int offset, int length) {
+        return subList(offset, offset + length);
+    }
+
+
+    /**
+     * Method to get the index of the specific element in this view.
+     *
+     * @param object object whose index is to find.
+     * @return index in this view or -1 if element is not in this view.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    public int indexOf(Object object) {
+        checkForComodification();
+
+        Object[] array = source.array();
+        for (int i = 0; i < length; i++) {
+            if (object == null ? array[offset + i] == null : object.equals(array[offset + i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Method to get the last index of the specific element in this view.
+     *
+     * @param object object whose last index is to find.
+     * @return last index in this view or -1 if element is not in this view.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    public int lastIndexOf(Object object) {
+        checkForComodification();
+
+        Object[] array = source.array();
+        for (int i = length - 1; i >= 0; i--) {
+            if (object == null ? array[offset + i] == null : object.equals(array[offset + i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Method to check if specified element is present in this view or not.
+     *
+     * @param object element to check.
+     * @return true if element is present in this view else false.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    public boolean contains(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+
+    /**
+     * Method to perform the given action on every element of this view.
+     *
+     * @param action action to perform on every element.
+     * @throws NullPointerException            if action is null.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException("Action can't be null");
+        }
+
+        checkForComodification();
+
+        Object[] array = source.array();
+        for (int i = 0; i < length; i++) {
+            action.accept((E) array[offset + i]);
+        }
+
+        checkForComodification();
+    }
+
+
+    /**
+     * Method to retrieve the number of elements of this view.
+     *
+     * @return size of the view.
+     */
+    public int size() {
+        return length;
+    }
+
+
+    /**
+     * Method to check if this view is empty or not.
+     *
+     * @return true if view is empty else false.
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+
+    /**
+     * Method to copy the elements of this view in a new array (length equals to size).
+     *
+     * @return array containing elements of the view.
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    public Object[] toArray() {
+        checkForComodification();
+
+        Object[] elements = new Object[length];
+        System.arraycopy(source.array(), offset, elements, 0, length);
+        return elements;
+    }
+
+
+    /**
+     * Method to return the string representation of this view.
+     * String returned is enclosed in square brackets ("[]").
+     * Adjacent elements are separated by comma (", ").
+     *
+     * @return String representation of the view
+     * @throws ConcurrentModificationException if parent was structurally modified.
+     */
+    @Override
+    public String toString() {
+        checkForComodification();
+
+        StringBuilder sb = new StringBuilder("[");
+        Object[] array = source.array();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(array[offset + i]);
+        }
+
+        return sb.append("]").toString();
+    }
+
+
+    /**
+     * Method to get the fail-fast iterator over this view.
+     *
+     * @return iterator object
+     */
+    @Override
+    public Iterator<E> iterator() {
+        checkForComodification();
+        return new ArrayViewIterator();
+    }
+
+
+    /**
+     * Method to validate a range [fromIndex, toIndex) of a sequence of given size.
+     *
+     * @throws IndexOutOfBoundsException if range is not valid.
+     */
+    static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range [" + fromIndex + ", " + toIndex + ") for size " + size);
+        }
+    }
+
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+    }
+
+
+    private void checkForComodification() {
+        if (source.modCount() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+
+    /**
+     * Access to the parent of a view. Implemented by the parents so that their fields stay private.
+     */
+    abstract static class Source {
+
+        /**
+         * @return current backing array of the parent.
+         */
+        abstract Object[] array();
+
+        /**
+         * @return number of structural modifications of the parent so far.
+         */
+        abstract int modCount();
+
+        /**
+         * @return current size of the parent.
+         */
+        abstract int size();
+    }
+
+
+    /**
+     * Class used to implement the fail-fast iterator.
+     */
+    private class ArrayViewIterator implements Iterator<E> {
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (index >= length) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) source.array()[offset + index++];
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.akgarg.datastructures;
+
+/**
+ * Growth and shrink policy shared by the array backed data structures
+ * ({@link ArrayList}, {@link Stack}, {@link Queue} and {@link PriorityQueue}).
+ * <p>
+ * A policy decides the new capacity of the backing array when it is full and, optionally,
+ * when the backing array can be shrunk after elements are removed.
+ * </p>
+ * <p>
+ * Growth is computed as <code>capacity * growthFactor + growthIncrement</code> and is
+ * overflow-safe: the new capacity never exceeds {@link #MAX_ARRAY_CAPACITY}. A policy may also
+ * double small arrays (below a doubling limit) before switching to its growth factor.
+ * </p>
+ * <p>
+ * Auto-shrink uses hysteresis: the array is shrunk only when the size falls to
+ * <code>capacity * shrinkThreshold</code> or below, and it is shrunk to the capacity the
+ * policy would grow to from the current size. Because <code>shrinkThreshold * growthFactor</code>
+ * is required to be less than 1, alternating add/remove around a boundary never causes
+ * repeated resizing. {@link ArrayList} has no remove operation and is never shrunk automatically.
+ * </p>
+ * <p>Instances of this class are immutable and can be shared between data structures.</p>
+ *
+ * @author Akhilesh Garg
+ */
+public class CapacityPolicy {
+
+    /**
+     * Maximum capacity of any backing array (some JVMs reserve header words in arrays).
+     */
+    public static final int MAX_ARRAY_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Policy which multiplies the capacity by 1.5 and adds 1, without auto-shrink.
+     */
+    public static final CapacityPolicy ONE_AND_HALF = new CapacityPolicy(1.5, 1);
+
+    /**
+     * Policy which doubles the capacity, without auto-shrink.
+     */
+    public static final CapacityPolicy DOUBLING = new CapacityPolicy(2.0, 0);
+
+    /**
+     * Policy which doubles the capacity below 64 and multiplies it by 1.5 from there on, without auto-shrink.
+     */
+    public static final CapacityPolicy DOUBLING_THEN_ONE_AND_HALF = new CapacityPolicy(1.5, 0, 0, 64);
+
+    // factor by which the capacity is multiplied on every growth
+    private final double growthFactor;
+
+    // constant number of slots added on every growth
+    private final int growthIncrement;
+
+    // fraction of capacity at or below which the array is shrunk (0 disables auto-shrink)
+    private final double shrinkThreshold;
+
+    // capacity below which the array is doubled instead of using the growth rule (0 if never)
+    private final int doublingLimit;
+
+
+    /**
+     * Creates a policy with the specified growth rule and auto-shrink disabled.
+     *
+     * @param growthFactor    factor by which capacity is multiplied on growth (at least 1).
+     * @param growthIncrement number of slots added on growth (not negative).
+     * @throws IllegalArgumentException if any argument is invalid.
+     */
+    public CapacityPolicy(double growthFactor, int growthIncrement) {
+        this(growthFactor, growthIncrement, 0);
+    }
+
+
+    /**
+     * Creates a policy with the specified growth rule and auto-shrink threshold.
+     *
+     * @param growthFactor    factor by which capacity is multiplied on growth (at least 1).
+     * @param growthIncrement number of slots added on growth (not negative).
+     * @param shrinkThreshold fraction of capacity at or below which the array is shrunk, 0 to disable auto-shrink.
+     * @throws IllegalArgumentException if any argument is invalid or if
+     *                                  <code>shrinkThreshold * growthFactor</code> is not less than 1.
+     */
+    public CapacityPolicy(double growthFactor, int growthIncrement, double shrinkThreshold) {
+        this(growthFactor, growthIncrement, shrinkThreshold, 0);
+    }
+
+
+    /**
+     * Creates a policy which doubles arrays smaller than the doubling limit and uses the growth rule for the others.
+     */
+    private CapacityPolicy(double growthFactor, int growthIncrement, double shrinkThreshold, int doublingLimit) {
+        if (!(growthFactor >= 1) || (growthFactor == 1 && growthIncrement == 0)) {
+            throw new IllegalArgumentException("Invalid growth factor " + growthFactor);
+        }
+
+        if (growthIncrement < 0) {
+            throw new IllegalArgumentException("Invalid growth increment " + growthIncrement);
+        }
+
+        double maximumFactor = doublingLimit > 0 ? Math.max(growthFactor, 2) : growthFactor;
+
+        if (!(shrinkThreshold >= 0) || shrinkThreshold * maximumFactor >= 1) {
+            throw new IllegalArgumentException("Invalid shrink threshold " + shrinkThreshold);
+        }
+
+        this.growthFactor = growthFactor;
+        this.growthIncrement = growthIncrement;
+        this.shrinkThreshold = shrinkThreshold;
+        this.doublingLimit = doublingLimit;
+    }
+
+
+    /**
+     * Returns a copy of this policy with the specified auto-shrink threshold.
+     *
+     * @param shrinkThreshold fraction of capacity at or below which the array is shrunk, 0 to disable auto-shrink.
+     * @return new policy with same growth rule and given shrink threshold.
+     * @throws IllegalArgumentException if shrink threshold is invalid for this growth rule.
+     */
+    public CapacityPolicy withShrinkThreshold(double shrinkThreshold) {
+        return new CapacityPolicy(this.growthFactor, this.growthIncrement, shrinkThreshold, this.doublingLimit);
+    }
+
+
+    /**
+     * Computes the new capacity of a full array.
+     *
+     * @param currentCapacity current capacity of the array.
+     * @param minCapacity     minimum capacity required by the caller.
+     * @return new capacity which is at least <code>minCapacity</code> and at most {@link #MAX_ARRAY_CAPACITY}.
+     * @throws OutOfMemoryError if <code>minCapacity</code> exceeds {@link #MAX_ARRAY_CAPACITY} (or overflowed).
+     */
+    public int grow(int currentCapacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_CAPACITY) {
+            throw new OutOfMemoryError("Required array capacity exceeds maximum capacity " + MAX_ARRAY_CAPACITY);
+        }
+
+        double grown = currentCapacity < this.doublingLimit
+                ? currentCapacity * 2.0
+                : currentCapacity * this.growthFactor + this.growthIncrement;
+        int newCapacity = grown >= MAX_ARRAY_CAPACITY ? MAX_ARRAY_CAPACITY : (int) grown;
+
+        return Math.max(newCapacity, minCapacity);
+    }
+
+
+    /**
+     * Computes the capacity of an array after elements are removed from it.
+     *
+     * @param currentCapacity current capacity of the array.
+     * @param size            current number of elements in the array.
+     * @param minimumCapacity capacity below which the array is never shrunk.
+     * @return new (smaller) capacity if the array should be shrunk, otherwise <code>currentCapacity</code>.
+     */
+    public int shrink(int currentCapacity, int size, int minimumCapacity) {
+        if (this.shrinkThreshold == 0 || currentCapacity <= minimumCapacity || size > currentCapacity * this.shrinkThreshold) {
+            return currentCapacity;
+        }
+
+        int newCapacity = Math.max(grow(size, size), minimumCapacity);
+        return Math.min(newCapacity, currentCapacity);
+    }
+
+
+    /**
+     * Returns whether this policy shrinks arrays automatically after removals.
+     *
+     * @return true if auto-shrink is enabled or false otherwise.
+     */
+    public boolean isAutoShrinkEnabled() {
+        return this.shrinkThreshold > 0;
+    }
+
+
+    /**
+     * Returns the string representation of this policy.
+     *
+     * @return String representation of this policy.
+     */
+    @Override
+    public String toString() {
+        return "CapacityPolicy[growthFactor=" + growthFactor + ", growthIncrement=" + growthIncrement + ", shrinkThreshold=" + shrinkThreshold + ", doublingLimit=" + doublingLimit + "]";
+    }
+}
@@ -0,0 +1,50 @@
+package com.akgarg.datastructures;
+
+/**
+ * Policy deciding what <code>clear()</code> does with the storage of a data structure
+ * ({@link ArrayList}, {@link Stack}, {@link PriorityQueue}, {@link SingleLinkedList} and {@link DoubleLinkedList}).
+ * <p>
+ * The array backed structures never keep references in slots at or beyond their size, except under
+ * {@link #SCRATCH}: the size is therefore the high-water mark of used slots, and clearing costs at most the
+ * number of slots which were really used, never the capacity.
+ * </p>
+ * <p>
+ * <strong>GC reachability:</strong> an element is garbage collected only when nothing reachable refers to it.
+ * {@link #RELEASE} and {@link #RETAIN} drop every reference to the cleared elements; {@link #SCRATCH} trades this
+ * guarantee for an O(1) clear and must be chosen only when keeping the cleared elements alive a bit longer is
+ * harmless (small, shared or primitive-like payloads such as cached boxed numbers or interned strings).
+ * </p>
+ *
+ * @author Akhilesh Garg
+ */
+public enum ClearPolicy {
+
+    /**
+     * Storage is released (default). Array backed structures replace their array with a new array of initial
+     * capacity, so the old array and all cleared elements become garbage at once, at the cost of an allocation
+     * per clear. Linked lists unlink every node (O(n)) so that cleared nodes which live in different GC
+     * generations don't keep each other alive.
+     */
+    RELEASE,
+
+    /**
+     * Storage is kept for reuse. Array backed structures keep their array (and capacity) and null only the slots
+     * which were used, O(size) instead of O(capacity), with no allocation. Nothing keeps the cleared elements
+     * reachable. Linked lists have no storage to keep and behave as with {@link #RELEASE}.
+     */
+    RETAIN,
+
+    /**
+     * Clear is O(1): array backed structures only reset their size, and linked lists only drop their first and
+     * last node references.
+     * <p>
+     * The old slots of an array still refer to the cleared elements until they are overwritten by new elements,
+     * the array is resized or trimmed, or the policy is changed to another one (which nulls them). Until then the
+     * cleared elements stay reachable and can't be collected, although no method of the data structure ever
+     * returns them. Dropped linked list nodes become garbage together, but a node promoted to an old GC
+     * generation keeps the following nodes alive until the next old generation collection, and an iterator
+     * created before the clear keeps the rest of the chain reachable.
+     * </p>
+     */
+    SCRATCH
+}
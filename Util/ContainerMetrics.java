@@ -0,0 +1,236 @@
+package com.akgarg.datastructures;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional hot-path instrumentation of the data structures of this package.
+ * <p>
+ * Instrumentation is disabled by default and is enabled by starting the JVM with
+ * <code>-Dcom.akgarg.datastructures.metrics=true</code>. The toggle is read once into the
+ * <code>static final</code> field {@link #ENABLED}, so the JIT compiler removes every
+ * <code>if (ContainerMetrics.ENABLED)</code> block and the disabled path costs nothing.
+ * </p>
+ * <p>
+ * Metrics are aggregated per data structure type (not per instance) and exposed through a
+ * {@link ContainerMetricsMXBean} registered in the platform MBean server. Counters and
+ * histograms are thread-safe, so they can be read over JMX while containers are in use.
+ * </p>
+ *
+ * @author Akhilesh Garg
+ */
+public final class ContainerMetrics implements ContainerMetricsMXBean {
+
+    /**
+     * Whether instrumentation is enabled (constant for the lifetime of the JVM).
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("com.akgarg.datastructures.metrics");
+
+    private static final String OBJECT_NAME_PREFIX = "com.akgarg.datastructures:type=ContainerMetrics,name=";
+
+    private final String containerName;
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder elementShifts = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder traversalSteps = new LongAdder();
+    private final LatencyHistogram resizeLatency = new LatencyHistogram();
+    private final LatencyHistogram linearOperationLatency = new LatencyHistogram();
+
+
+    private ContainerMetrics(String containerName) {
+        this.containerName = containerName;
+    }
+
+
+    /**
+     * Creates the metrics of specified data structure type and registers them in the
+     * platform MBean server if instrumentation is enabled.
+     *
+     * @param containerName name of the data structure type.
+     * @return metrics of given data structure type.
+     * @throws IllegalStateException if MBean registration fails.
+     */
+    static ContainerMetrics register(String containerName) {
+        ContainerMetrics metrics = new ContainerMetrics(containerName);
+
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME_PREFIX + containerName));
+            } catch (InstanceAlreadyExistsException e) {
+                // class loaded by another class loader has already registered metrics of this type
+            } catch (JMException e) {
+                throw new IllegalStateException("Unable to register metrics of " + containerName, e);
+            }
+        }
+
+        return metrics;
+    }
+
+
+    /**
+     * Returns the JMX object name under which metrics of specified data structure type are registered.
+     *
+     * @param containerName name of the data structure type (simple class name).
+     * @return object name under which metrics of given type are registered.
+     */
+    public static String objectName(String containerName) {
+        return OBJECT_NAME_PREFIX + containerName;
+    }
+
+
+    /**
+     * Records a single operation.
+     */
+    void recordOperation() {
+        operations.increment();
+    }
+
+
+    /**
+     * Records the specified number of elements moved inside a backing array.
+     */
+    void recordShifts(long count) {
+        elementShifts.add(count);
+    }
+
+
+    /**
+     * Records a single element comparison.
+     */
+    void recordComparison() {
+        comparisons.increment();
+    }
+
+
+    /**
+     * Records the specified number of nodes or slots walked.
+     */
+    void recordTraversal(long steps) {
+        traversalSteps.add(steps);
+    }
+
+
+    /**
+     * Records a resize which started at specified {@link System#nanoTime()} value.
+     */
+    void recordResize(long startNanos) {
+        resizes.increment();
+        resizeLatency.record(System.nanoTime() - startNanos);
+    }
+
+
+    /**
+     * Records a linear (shifting or walking) operation which started at specified {@link System#nanoTime()} value.
+     */
+    void recordLinearOperation(long startNanos) {
+        linearOperationLatency.record(System.nanoTime() - startNanos);
+    }
+
+
+    @Override
+    public String getContainerName() {
+        return containerName;
+    }
+
+    @Override
+    public long getOperations() {
+        return operations.sum();
+    }
+
+    @Override
+    public long getResizes() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getElementShifts() {
+        return elementShifts.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getTraversalSteps() {
+        return traversalSteps.sum();
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizeLatency.count();
+    }
+
+    @Override
+    public double getResizeLatencyMean() {
+        return resizeLatency.mean();
+    }
+
+    @Override
+    public long getResizeLatencyP50() {
+        return resizeLatency.percentile(50);
+    }
+
+    @Override
+    public long getResizeLatencyP99() {
+        return resizeLatency.percentile(99);
+    }
+
+    @Override
+    public long getResizeLatencyMax() {
+        return resizeLatency.max();
+    }
+
+    @Override
+    public long getLinearOperationCount() {
+        return linearOperationLatency.count();
+    }
+
+    @Override
+    public double getLinearOperationLatencyMean() {
+        return linearOperationLatency.mean();
+    }
+
+    @Override
+    public long getLinearOperationLatencyP50() {
+        return linearOperationLatency.percentile(50);
+    }
+
+    @Override
+    public long getLinearOperationLatencyP99() {
+        return linearOperationLatency.percentile(99);
+    }
+
+    @Override
+    public long getLinearOperationLatencyMax() {
+        return linearOperationLatency.max();
+    }
+
+    @Override
+    public void reset() {
+        operations.reset();
+        resizes.reset();
+        elementShifts.reset();
+        comparisons.reset();
+        traversalSteps.reset();
+        resizeLatency.reset();
+        linearOperationLatency.reset();
+    }
+
+
+    /**
+     * Returns the string representation of these metrics.
+     *
+     * @return String representation of metrics.
+     */
+    @Override
+    public String toString() {
+        return containerName + "[operations=" + getOperations() + ", resizes=" + getResizes() + ", elementShifts=" + getElementShifts()
+                + ", comparisons=" + getComparisons() + ", traversalSteps=" + getTraversalSteps() + "]";
+    }
+}
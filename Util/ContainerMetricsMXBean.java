@@ -0,0 +1,99 @@
+package com.akgarg.datastructures;
+
+/**
+ * JMX management interface of {@link ContainerMetrics}.
+ * <p>
+ * One MXBean is registered per data structure type under the object name
+ * <code>com.akgarg.datastructures:type=ContainerMetrics,name=&lt;class name&gt;</code>.
+ * All latencies are reported in nanoseconds.
+ * </p>
+ *
+ * @author Akhilesh Garg
+ */
+public interface ContainerMetricsMXBean {
+
+    /**
+     * Returns the name of the data structure type these metrics belong to.
+     */
+    String getContainerName();
+
+    /**
+     * Returns the total number of instrumented operations performed.
+     */
+    long getOperations();
+
+    /**
+     * Returns the total number of times a backing array was resized.
+     */
+    long getResizes();
+
+    /**
+     * Returns the total number of elements moved by shifting inside backing arrays.
+     */
+    long getElementShifts();
+
+    /**
+     * Returns the total number of element comparisons performed.
+     */
+    long getComparisons();
+
+    /**
+     * Returns the total number of nodes or slots walked by searches and positional access.
+     */
+    long getTraversalSteps();
+
+    /**
+     * Returns the number of recorded resize latencies.
+     */
+    long getResizeCount();
+
+    /**
+     * Returns the mean resize latency.
+     */
+    double getResizeLatencyMean();
+
+    /**
+     * Returns the median resize latency.
+     */
+    long getResizeLatencyP50();
+
+    /**
+     * Returns the 99th percentile resize latency.
+     */
+    long getResizeLatencyP99();
+
+    /**
+     * Returns the maximum resize latency.
+     */
+    long getResizeLatencyMax();
+
+    /**
+     * Returns the number of recorded latencies of linear (shifting or walking) operations.
+     */
+    long getLinearOperationCount();
+
+    /**
+     * Returns the mean latency of linear (shifting or walking) operations.
+     */
+    double getLinearOperationLatencyMean();
+
+    /**
+     * Returns the median latency of linear (shifting or walking) operations.
+     */
+    long getLinearOperationLatencyP50();
+
+    /**
+     * Returns the 99th percentile latency of linear (shifting or walking) operations.
+     */
+    long getLinearOperationLatencyP99();
+
+    /**
+     * Returns the maximum latency of linear (shifting or walking) operations.
+     */
+    long getLinearOperationLatencyMax();
+
+    /**
+     * Resets all counters and histograms to zero.
+     */
+    void reset();
+}
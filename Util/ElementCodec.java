@@ -0,0 +1,186 @@
+package com.akgarg.datastructures;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts elements of a data structure to and from bytes for binary snapshots.
+ * <p>
+ * A codec whose elements always take the same number of bytes returns it from {@link #fixedSize()}.
+ * Snapshots written with such a codec store the elements back to back without any length prefix
+ * (unless the container holds null elements). Codecs for boxed primitives and strings are provided
+ * as constants.
+ * </p>
+ *
+ * @param <E> the type of elements encoded by this codec
+ * @author Akhilesh Garg
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Codec for Integer elements (4 bytes each).
+     */
+    ElementCodec<Integer> INTEGER = new ElementCodec<>() {
+        @Override
+        public int fixedSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public int encodedSize(Integer element) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer element, ByteBuffer buffer) {
+            buffer.putInt(element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int length) {
+            return buffer.getInt();
+        }
+    };
+
+    /**
+     * Codec for Long elements (8 bytes each).
+     */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int fixedSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public int encodedSize(Long element) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer buffer) {
+            buffer.putLong(element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int length) {
+            return buffer.getLong();
+        }
+    };
+
+    /**
+     * Codec for Double elements (8 bytes each).
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int fixedSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public int encodedSize(Double element) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double element, ByteBuffer buffer) {
+            buffer.putDouble(element);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int length) {
+            return buffer.getDouble();
+        }
+    };
+
+    /**
+     * Codec for String elements (UTF-8 bytes, length is stored by the snapshot).
+     */
+    ElementCodec<String> STRING = new ElementCodec<>() {
+        @Override
+        public int encodedSize(String element) {
+            int length = element.length();
+            int bytes = 0;
+
+            for (int i = 0; i < length; i++) {
+                char c = element.charAt(i);
+
+                if (c < 0x80) {
+                    bytes++;
+                } else if (c < 0x800) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(element.charAt(i + 1))) {
+                    bytes += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    // unpaired surrogate is replaced with '?' by the UTF-8 encoder
+                    bytes++;
+                } else {
+                    bytes += 3;
+                }
+            }
+
+            return bytes;
+        }
+
+        @Override
+        public void encode(String element, ByteBuffer buffer) {
+            buffer.put(element.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer, int length) {
+            String element;
+
+            if (buffer.hasArray()) {
+                element = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                element = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            return element;
+        }
+    };
+
+
+    /**
+     * Returns the number of bytes of every encoded element, or -1 if the encoded size depends on the element.
+     *
+     * @return fixed encoded size in bytes or -1.
+     */
+    default int fixedSize() {
+        return -1;
+    }
+
+
+    /**
+     * Returns the exact number of bytes {@link #encode} writes for the specified element.
+     *
+     * @param element non-null element to encode.
+     * @return encoded size in bytes.
+     */
+    int encodedSize(E element);
+
+
+    /**
+     * Writes the specified element at the current position of the buffer.
+     * The buffer always has room for {@link #encodedSize} bytes.
+     *
+     * @param element non-null element to encode.
+     * @param buffer  buffer to write to.
+     */
+    void encode(E element, ByteBuffer buffer);
+
+
+    /**
+     * Reads an element of specified encoded length from the current position of the buffer.
+     * The decoder must consume exactly <code>length</code> bytes.
+     *
+     * @param buffer buffer to read from.
+     * @param length encoded size of the element in bytes.
+     * @return decoded element.
+     */
+    E decode(ByteBuffer buffer, int length);
+}
@@ -0,0 +1,149 @@
+package com.akgarg.datastructures;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram used to record latencies (in nanoseconds).
+ * <p>
+ * Values are grouped in buckets by their highest set bit, and each power-of-two range is
+ * further split in 8 linear sub-buckets (similar to HdrHistogram with 3 significant bits),
+ * so recorded percentiles are accurate to within 12.5% of the actual value.
+ * </p>
+ * <p>Recording is safe from multiple threads and never allocates.</p>
+ *
+ * @author Akhilesh Garg
+ */
+final class LatencyHistogram {
+
+    // number of bits used to split every power-of-two range
+    private static final int SUB_BUCKET_BITS = 3;
+
+    // number of linear sub-buckets in every power-of-two range
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // total number of buckets needed to cover all non-negative long values
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+
+    /**
+     * Records the specified value in this histogram (negative values are recorded as 0).
+     *
+     * @param value value to record.
+     */
+    void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.increment();
+        totalValue.add(value);
+        maxValue.accumulate(value);
+    }
+
+
+    /**
+     * Returns the value at the specified percentile (upper bound of the bucket containing it).
+     *
+     * @param percentile percentile in range [0, 100].
+     * @return value at given percentile or 0 if histogram is empty.
+     * @throws IllegalArgumentException if percentile is out of range.
+     */
+    long percentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Invalid percentile " + percentile);
+        }
+
+        long count = totalCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), max());
+            }
+        }
+
+        return max();
+    }
+
+
+    /**
+     * Returns the total number of values recorded in this histogram.
+     */
+    long count() {
+        return totalCount.sum();
+    }
+
+
+    /**
+     * Returns the mean of all recorded values or 0 if histogram is empty.
+     */
+    double mean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalValue.sum() / count;
+    }
+
+
+    /**
+     * Returns the largest recorded value or 0 if histogram is empty.
+     */
+    long max() {
+        return maxValue.get();
+    }
+
+
+    /**
+     * Removes all recorded values from this histogram.
+     */
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+
+        totalCount.reset();
+        totalValue.reset();
+        maxValue.reset();
+    }
+
+
+    /**
+     * Returns the bucket index of the specified non-negative value.
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+
+    /**
+     * Returns the largest value which falls in the bucket of specified index.
+     */
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        long upperBound = lowerBound + (1L << shift) - 1;
+        return upperBound < 0 ? Long.MAX_VALUE : upperBound;
+    }
+}
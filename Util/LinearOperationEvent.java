@@ -0,0 +1,66 @@
+package com.akgarg.datastructures;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event emitted when an operation shifts or walks at least
+ * {@link #THRESHOLD} elements.
+ * <p>
+ * The threshold is read once from the system property
+ * <code>com.akgarg.datastructures.jfr.threshold</code> (default 1024). Operations below the
+ * threshold are never committed, so a recording only shows the call sites which hurt.
+ * </p>
+ *
+ * @author Akhilesh Garg
+ */
+@Name("com.akgarg.datastructures.LinearOperation")
+@Label("Container Linear Operation")
+@Category({"Java Data Structures"})
+@Description("Operation which shifted or walked more elements than the configured threshold")
+final class LinearOperationEvent extends jdk.jfr.Event {
+
+    /**
+     * Minimum number of shifted or walked elements for an operation to be recorded.
+     */
+    static final int THRESHOLD = Integer.getInteger("com.akgarg.datastructures.jfr.threshold", 1024);
+
+    @Label("Container")
+    String container;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Index")
+    int index;
+
+    @Label("Size")
+    int size;
+
+    @Label("Elements Moved Or Walked")
+    long elements;
+
+
+    /**
+     * Ends this event and commits it with the specified values if it is enabled and the
+     * number of elements reaches the threshold.
+     *
+     * @param container name of the data structure type.
+     * @param operation name of the operation.
+     * @param index     index position used by the operation.
+     * @param size      size of the data structure before the operation.
+     * @param elements  number of elements shifted or walked by the operation.
+     */
+    void record(String container, String operation, int index, int size, long elements) {
+        if (elements >= THRESHOLD && shouldCommit()) {
+            this.container = container;
+            this.operation = operation;
+            this.index = index;
+            this.size = size;
+            this.elements = elements;
+            commit();
+        }
+    }
+}
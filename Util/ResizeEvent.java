@@ -0,0 +1,54 @@
+package com.akgarg.datastructures;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event emitted whenever the backing array of a data structure is resized.
+ * <p>
+ * The event is created and begun before the resize and committed after it, so its duration
+ * covers the allocation and the copy of the elements. When no recording is running the event
+ * is never committed and the JIT compiler eliminates its allocation.
+ * </p>
+ *
+ * @author Akhilesh Garg
+ */
+@Name("com.akgarg.datastructures.Resize")
+@Label("Container Resize")
+@Category({"Java Data Structures"})
+@Description("Backing array of a data structure was resized")
+final class ResizeEvent extends jdk.jfr.Event {
+
+    @Label("Container")
+    String container;
+
+    @Label("Size")
+    int size;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+
+    /**
+     * Ends this event and commits it with the specified values if it is enabled.
+     *
+     * @param container   name of the data structure type.
+     * @param size        number of elements copied to the new array.
+     * @param oldCapacity capacity before resize.
+     * @param newCapacity capacity after resize.
+     */
+    void record(String container, int size, int oldCapacity, int newCapacity) {
+        if (shouldCommit()) {
+            this.container = container;
+            this.size = size;
+            this.oldCapacity = oldCapacity;
+            this.newCapacity = newCapacity;
+            commit();
+        }
+    }
+}
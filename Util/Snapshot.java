@@ -0,0 +1,374 @@
+package com.akgarg.datastructures;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact binary snapshot format shared by the containers of this package.
+ * <p>
+ * A snapshot is written through a {@link FileChannel} with a single reusable {@link ByteBuffer} and
+ * has the following layout (big endian):
+ * </p>
+ * <pre>
+ * int     magic            0x4A445331 ("JDS1")
+ * byte    version          1
+ * byte    container type   one of the type constants of this class
+ * byte    flags            {@link #PREFIXED}, {@link #TRAILER}
+ * int     size             number of elements
+ * int     element size     fixed size of every element, or -1 if elements are length prefixed
+ * ...     elements         in container order; if prefixed, every element is preceded by its
+ *                          int length (-1 for null)
+ * ...     trailer          int count followed by count longs (only if {@link #TRAILER} is set)
+ * </pre>
+ * <p>
+ * Elements are written without length prefix when the codec has a fixed size and the container has
+ * no null element, so a snapshot of n Integers takes 15 + 4n bytes.
+ * </p>
+ *
+ * @author Akhilesh Garg
+ * @see ElementCodec
+ */
+final class Snapshot {
+
+    static final byte ARRAY_LIST = 1;
+    static final byte STACK = 2;
+    static final byte QUEUE = 3;
+    static final byte PRIORITY_QUEUE = 4;
+    static final byte SINGLE_LINKED_LIST = 5;
+    static final byte DOUBLE_LINKED_LIST = 6;
+
+    // Elements are preceded by their length
+    static final byte PREFIXED = 1;
+
+    // Elements are followed by a trailer of longs
+    static final byte TRAILER = 2;
+
+    private static final int MAGIC = 0x4A445331;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 15;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NULL_LENGTH = -1;
+
+
+    private Snapshot() {
+    }
+
+
+    /**
+     * Writes a snapshot of specified elements to the file of specified path (file is created or truncated).
+     *
+     * @param path     file to write.
+     * @param type     container type constant.
+     * @param size     number of elements.
+     * @param elements elements in container order (exactly size elements).
+     * @param codec    codec used to encode elements.
+     * @param trailer  longs written after the elements or null.
+     * @param <E>      the type of elements.
+     * @throws IOException           if an I/O error occurs.
+     * @throws IllegalStateException if codec doesn't write the number of bytes it reports.
+     */
+    static <E> void write(Path path, byte type, int size, Iterable<? extends E> elements, ElementCodec<? super E> codec,
+                          long[] trailer) throws IOException {
+        if (codec == null) {
+            throw new NullPointerException("Codec can't be null");
+        }
+
+        int fixedSize = codec.fixedSize();
+        boolean prefixed = fixedSize < 0;
+
+        if (!prefixed) {
+            for (E element : elements) {
+                if (element == null) {
+                    prefixed = true;
+                    break;
+                }
+            }
+        }
+
+        try (Writer writer = new Writer(path)) {
+            ByteBuffer buffer = writer.reserve(HEADER_SIZE);
+            buffer.putInt(MAGIC);
+            buffer.put(VERSION);
+            buffer.put(type);
+            buffer.put((byte) ((prefixed ? PREFIXED : 0) | (trailer != null ? TRAILER : 0)));
+            buffer.putInt(size);
+            buffer.putInt(prefixed ? -1 : fixedSize);
+
+            for (E element : elements) {
+                if (!prefixed) {
+                    encode(writer.reserve(fixedSize), element, fixedSize, codec);
+                } else if (element == null) {
+                    writer.reserve(Integer.BYTES).putInt(NULL_LENGTH);
+                } else {
+                    int length = codec.encodedSize(element);
+                    buffer = writer.reserve(Integer.BYTES + length);
+                    buffer.putInt(length);
+                    encode(buffer, element, length, codec);
+                }
+            }
+
+            if (trailer != null) {
+                writer.reserve(Integer.BYTES).putInt(trailer.length);
+
+                for (long value : trailer) {
+                    writer.reserve(Long.BYTES).putLong(value);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Opens the snapshot of specified path and validates its header.
+     *
+     * @param path  file to read.
+     * @param type  expected container type constant.
+     * @param codec codec used to decode elements.
+     * @param <E>   the type of elements.
+     * @return reader positioned at the first element.
+     * @throws IOException if an I/O error occurs or file is not a snapshot of given type.
+     */
+    static <E> Reader<E> read(Path path, byte type, ElementCodec<E> codec) throws IOException {
+        if (codec == null) {
+            throw new NullPointerException("Codec can't be null");
+        }
+
+        Reader<E> reader = new Reader<>(path, codec);
+
+        try {
+            reader.readHeader(type);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+
+        return reader;
+    }
+
+
+    private static <E> void encode(ByteBuffer buffer, E element, int length, ElementCodec<? super E> codec) {
+        int start = buffer.position();
+        codec.encode(element, buffer);
+
+        if (buffer.position() - start != length) {
+            throw new IllegalStateException("Codec wrote " + (buffer.position() - start) + " bytes instead of " + length);
+        }
+    }
+
+
+    /**
+     * Buffered writer of a snapshot file.
+     */
+    private static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Writer(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        /**
+         * Returns the buffer with room for at least specified number of bytes, flushing it if required.
+         */
+        private ByteBuffer reserve(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+
+                if (buffer.capacity() < bytes) {
+                    buffer = ByteBuffer.allocate(bytes);
+                }
+            }
+
+            return buffer;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (channel) {
+                flush();
+            }
+        }
+    }
+
+
+    /**
+     * Buffered reader of a snapshot file. Elements must be read in order with {@link #next()} and the
+     * trailer (if any) with {@link #trailer()} after the last element.
+     *
+     * @param <E> the type of elements.
+     */
+    static final class Reader<E> implements Closeable {
+        private final FileChannel channel;
+        private final ElementCodec<E> codec;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private int size;
+        private int fixedSize;
+        private boolean prefixed;
+        private boolean hasTrailer;
+        private int remaining;
+
+        private Reader(Path path, ElementCodec<E> codec) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.codec = codec;
+            this.buffer.limit(0);
+        }
+
+        private void readHeader(byte type) throws IOException {
+            ByteBuffer header = fill(HEADER_SIZE);
+
+            if (header.getInt() != MAGIC || header.get() != VERSION) {
+                throw new IOException("Not a snapshot file (or unsupported version)");
+            }
+
+            byte actualType = header.get();
+
+            if (actualType != type) {
+                throw new IOException("Snapshot of container type " + actualType + " can't be read as type " + type);
+            }
+
+            byte flags = header.get();
+            this.prefixed = (flags & PREFIXED) != 0;
+            this.hasTrailer = (flags & TRAILER) != 0;
+            this.size = header.getInt();
+            this.fixedSize = header.getInt();
+            this.remaining = size;
+
+            if (size < 0) {
+                throw new IOException("Invalid snapshot size " + size);
+            }
+
+            if (!prefixed && fixedSize != codec.fixedSize()) {
+                throw new IOException("Snapshot element size " + fixedSize + " doesn't match codec size " + codec.fixedSize());
+            }
+        }
+
+        /**
+         * Returns true if the snapshot has a trailer after the elements.
+         */
+        boolean hasTrailer() {
+            return hasTrailer;
+        }
+
+        /**
+         * Returns the number of elements of the snapshot.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Reads the next element.
+         *
+         * @throws IOException if an I/O error occurs or the snapshot is truncated or corrupted.
+         */
+        E next() throws IOException {
+            if (remaining == 0) {
+                throw new IllegalStateException("All elements are already read");
+            }
+
+            remaining--;
+            int length = fixedSize;
+
+            if (prefixed) {
+                length = fill(Integer.BYTES).getInt();
+
+                if (length == NULL_LENGTH) {
+                    return null;
+                }
+
+                if (length < 0) {
+                    throw new IOException("Invalid element length " + length);
+                }
+            }
+
+            ByteBuffer data = fill(length);
+            int end = data.position() + length;
+            E element = codec.decode(data, length);
+
+            if (data.position() != end) {
+                throw new IOException("Codec read " + (length - end + data.position()) + " bytes instead of " + length);
+            }
+
+            return element;
+        }
+
+        /**
+         * Reads the trailer written after the elements.
+         *
+         * @return longs of the trailer or null if snapshot has no trailer.
+         * @throws IOException if an I/O error occurs or the snapshot is truncated.
+         */
+        long[] trailer() throws IOException {
+            if (remaining != 0) {
+                throw new IllegalStateException(remaining + " elements are not read yet");
+            }
+
+            if (!hasTrailer) {
+                return null;
+            }
+
+            int count = fill(Integer.BYTES).getInt();
+
+            if (count < 0) {
+                throw new IOException("Invalid trailer length " + count);
+            }
+
+            long[] trailer = new long[count];
+
+            for (int i = 0; i < count; i++) {
+                trailer[i] = fill(Long.BYTES).getLong();
+            }
+
+            return trailer;
+        }
+
+        /**
+         * Returns the buffer with at least specified number of unread bytes, reading from file if required.
+         *
+         * @throws EOFException if file ends before.
+         */
+        private ByteBuffer fill(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return buffer;
+            }
+
+            if (buffer.capacity() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(bytes);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Unexpected end of snapshot");
+                }
+            }
+
+            buffer.flip();
+            return buffer;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}